@@ -70,6 +70,15 @@ testing {
     }
 }
 
+// Sources are UTF-8 regardless of the platform's default charset.
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+tasks.withType<Javadoc> {
+    options.encoding = "UTF-8"
+}
+
 testlogger {
     theme  = ThemeType.MOCHA
 }
@@ -0,0 +1,333 @@
+package jack.collections;
+
+import jack.utils.Asserts;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>Base class for immutable {@link ReadOnlyMap} implementations with case-insensitive string keys, whose entries
+ * are held in slots (see {@link CaseInsensitiveHashTable}).
+ * </p>
+ * Subclasses decide how slots are stored and how a key is located within them (see {@link #find(String)}). Entries
+ * are identified by their index (slot); a slot with a {@code null} key is empty.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+abstract class AbstractStringKeyMap implements ReadOnlyMap<String> {
+
+    @Override
+    public boolean containsKey(String key) throws IllegalArgumentException {
+        Asserts.notNull(key, "Key cannot be null.");
+        return find(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // T is chosen by the caller; a mismatch fails at the caller's assignment.
+    public <T> T get(String key) throws MissingKeyException, IllegalArgumentException, TypeMismatchException {
+        return (T) box(slotOf(key));
+    }
+
+    @Override
+    public <T> T get(String key, T defaultValue) throws IllegalArgumentException {
+        try {
+            return get(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public int getAsInteger(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        return (int) asLong(key, Integer.TYPE);
+    }
+
+    @Override
+    public int getAsInteger(String key, int defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        try {
+            return getAsInteger(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public long getAsLong(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        return asLong(key, Long.TYPE);
+    }
+
+    @Override
+    public long getAsLong(String key, long defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        try {
+            return getAsLong(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public boolean getAsBoolean(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        return toBoolean(key, slotOf(key));
+    }
+
+    @Override
+    public boolean getAsBoolean(String key, boolean defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        try {
+            return getAsBoolean(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public float getAsFloat(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        return (float) asDouble(key, Float.TYPE);
+    }
+
+    @Override
+    public float getAsFloat(String key, float defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        try {
+            return getAsFloat(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public double getAsDouble(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        return asDouble(key, Double.TYPE);
+    }
+
+    @Override
+    public double getAsDouble(String key, double defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        try {
+            return getAsDouble(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public String getAsString(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        return get(key);
+    }
+
+    @Override
+    public String getAsString(String key, String defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
+        try {
+            return getAsString(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * @return Number of keys in this map.
+     */
+    public abstract int size();
+
+    /**
+     * @return An unmodifiable {@link Map} view of this instance. Unlike this instance, the view compares keys
+     * case-sensitively, as required by the {@link Map} contract. Primitive values are boxed on demand.
+     */
+    Map<String, Object> asMap() {
+        return new MapView();
+    }
+
+    /**
+     * Find the slot of a key, ignoring case.
+     *
+     * @param key Key to look by.
+     * @return Slot of <i>key</i>, or -1 if key does not exist.
+     */
+    protected abstract int find(String key);
+
+    /**
+     * @return Number of slots (empty or not).
+     */
+    protected abstract int slotCount();
+
+    /**
+     * @param slot Slot index.
+     * @return Key of slot, or {@code null} if slot is empty.
+     */
+    protected abstract String key(int slot);
+
+    /**
+     * @param slot Index of a non-empty slot.
+     * @return Value of slot, boxed if primitive.
+     */
+    protected abstract Object box(int slot);
+
+    /**
+     * Convert the value of a slot to a {@code long}.
+     *
+     * @param key           Key looked by, for error reporting.
+     * @param slot          Index of a non-empty slot.
+     * @param requestedType Type requested by caller, for error reporting.
+     * @return Value as a {@code long}.
+     * @throws TypeMismatchException If value is not numeric.
+     */
+    protected abstract long toLong(String key, int slot, Class<?> requestedType) throws TypeMismatchException;
+
+    /**
+     * Convert the value of a slot to a {@code double}.
+     *
+     * @param key           Key looked by, for error reporting.
+     * @param slot          Index of a non-empty slot.
+     * @param requestedType Type requested by caller, for error reporting.
+     * @return Value as a {@code double}.
+     * @throws TypeMismatchException If value is not numeric.
+     */
+    protected abstract double toDouble(String key, int slot, Class<?> requestedType) throws TypeMismatchException;
+
+    /**
+     * Convert the value of a slot to a {@code boolean}.
+     *
+     * @param key  Key looked by, for error reporting.
+     * @param slot Index of a non-empty slot.
+     * @return Value as a {@code boolean}.
+     * @throws TypeMismatchException If value is not a boolean.
+     */
+    protected abstract boolean toBoolean(String key, int slot) throws TypeMismatchException;
+
+    /**
+     * Find the slot of an existing key, ignoring case.
+     *
+     * @param key Key to look by.
+     * @return Slot of <i>key</i>.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     * @throws MissingKeyException      If <i>key</i> does not exist.
+     */
+    private int slotOf(String key) throws IllegalArgumentException, MissingKeyException {
+        Asserts.notNull(key, "Key cannot be null.");
+        int slot = find(key);
+        if (slot < 0) {
+            throw new MissingKeyException("Unknown key: " + key);
+        }
+        return slot;
+    }
+
+    /**
+     * Fetch a numeric value as a {@code long}.
+     *
+     * @param key           Key to look by.
+     * @param requestedType Type requested by caller, for error reporting.
+     * @return Associated value.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     * @throws MissingKeyException      If <i>key</i> does not exist.
+     * @throws TypeMismatchException    If value is not numeric.
+     */
+    private long asLong(String key, Class<?> requestedType)
+            throws IllegalArgumentException, MissingKeyException, TypeMismatchException {
+        return toLong(key, slotOf(key), requestedType);
+    }
+
+    /**
+     * Fetch a numeric value as a {@code double}.
+     *
+     * @param key           Key to look by.
+     * @param requestedType Type requested by caller, for error reporting.
+     * @return Associated value.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     * @throws MissingKeyException      If <i>key</i> does not exist.
+     * @throws TypeMismatchException    If value is not numeric.
+     */
+    private double asDouble(String key, Class<?> requestedType)
+            throws IllegalArgumentException, MissingKeyException, TypeMismatchException {
+        return toDouble(key, slotOf(key), requestedType);
+    }
+
+    /**
+     * Unmodifiable {@link Map} view over the entries' arrays.
+     */
+    private final class MapView extends AbstractMap<String, Object> {
+
+        @Override
+        public int size() {
+            return AbstractStringKeyMap.this.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return caseSensitiveSlotOf(key) >= 0;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int slot = caseSensitiveSlotOf(key);
+            return slot < 0 ? null : box(slot);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return AbstractStringKeyMap.this.size();
+                }
+            };
+        }
+
+        /**
+         * Find the slot of a key, comparing case-sensitively.
+         *
+         * @param key Key to look by.
+         * @return Slot of <i>key</i>, or -1 if key does not exist.
+         */
+        private int caseSensitiveSlotOf(Object key) {
+            if (!(key instanceof String str)) {
+                return -1;
+            }
+            int slot = find(str);
+            return slot >= 0 && key(slot).equals(str) ? slot : -1;
+        }
+    }
+
+    /**
+     * Iterates over non-empty slots.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        /**
+         * Next non-empty slot, or {@link #slotCount()} if there are no more entries.
+         */
+        private int next = advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return next < slotCount();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (next >= slotCount()) {
+                throw new NoSuchElementException();
+            }
+            int slot = next;
+            next = advance(slot + 1);
+            return new AbstractMap.SimpleImmutableEntry<>(key(slot), box(slot));
+        }
+
+        /**
+         * @param slot Slot to start with.
+         * @return First non-empty slot, starting at <i>slot</i>.
+         */
+        private int advance(int slot) {
+            while (slot < slotCount() && key(slot) == null) {
+                slot++;
+            }
+            return slot;
+        }
+    }
+}
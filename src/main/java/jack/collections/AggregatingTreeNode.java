@@ -0,0 +1,142 @@
+package jack.collections;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * <p>A tree node that maintains the aggregate of its subtree (see {@link TreeAggregation}).
+ * </p>
+ * Each node holds its current aggregate and a reference to its parent. Whenever data or children of a node change,
+ * aggregates are updated from that node up to the root. If the aggregation is
+ * {@link TreeAggregation#isInvertible() invertible}, each ancestor replaces the old part with the new one, so a change
+ * costs <i>O(depth)</i>. Otherwise, each ancestor combines the aggregates of its children again, so a change costs
+ * <i>O(depth x fan-out)</i>. Reading an aggregate is <i>O(1)</i>.
+ *
+ * @param <K> Generic type of node's key.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+final class AggregatingTreeNode<K, D> extends TreeNode<K, D> {
+
+    /**
+     * Aggregation of tree.
+     */
+    private final TreeAggregation<D> aggregation;
+
+    /**
+     * Parent of this node, or {@code null} for the root (or a node removed from its parent).
+     */
+    private AggregatingTreeNode<K, D> parent;
+
+    /**
+     * Aggregate of this node's subtree.
+     */
+    private D aggregate;
+
+    /**
+     * Class constructor.
+     *
+     * @param aggregation Aggregation of tree.
+     * @param parent      Parent of this node, or {@code null} for the root.
+     * @param data        Data of this node.
+     */
+    AggregatingTreeNode(TreeAggregation<D> aggregation, AggregatingTreeNode<K, D> parent, D data) {
+        super(data);
+        this.aggregation = aggregation;
+        this.parent = parent;
+        this.aggregate = data != null ? data : aggregation.identity();
+    }
+
+    @Override
+    public void setData(D data) {
+        D previous = getData();
+        super.setData(data);
+        update(valueOf(previous), valueOf(data));
+    }
+
+    @Override
+    public TreeNode<K, D> add(K key, D data) {
+        TreeNode<K, D> previous = getNode(key);
+        TreeNode<K, D> child = super.add(key, data);
+        detach(previous);
+        update(previous != null ? previous.getAggregate() : null, child.getAggregate());
+        return child;
+    }
+
+    @Override
+    public boolean remove(K key) {
+        TreeNode<K, D> child = getNode(key);
+        if (!super.remove(key)) {
+            return false;
+        }
+        detach(child);
+        update(child.getAggregate(), null);
+        return true;
+    }
+
+    @Override
+    public D getAggregate() {
+        return aggregate;
+    }
+
+    @Override
+    protected TreeNode<K, D> newChild(D data) {
+        return new AggregatingTreeNode<>(aggregation, this, data);
+    }
+
+    /**
+     * Update aggregates of this node and all of its ancestors, after a part of this node's aggregate was replaced.
+     *
+     * @param removed Part removed from this node's aggregate, or {@code null} if none.
+     * @param added   Part added to this node's aggregate, or {@code null} if none.
+     */
+    private void update(D removed, D added) {
+        if (!aggregation.isInvertible()) {
+            for (AggregatingTreeNode<K, D> node = this; node != null; node = node.parent) {
+                node.recompute();
+            }
+            return;
+        }
+
+        // The change of each node's aggregate is the part replaced within its parent's aggregate.
+        for (AggregatingTreeNode<K, D> node = this; node != null; node = node.parent) {
+            D previous = node.aggregate;
+            D result = removed != null ? aggregation.subtract(previous, removed) : previous;
+            node.aggregate = added != null ? aggregation.combine(result, added) : result;
+            removed = previous;
+            added = node.aggregate;
+        }
+    }
+
+    /**
+     * Recompute aggregate of this node, based on its data and its children's aggregates.
+     */
+    private void recompute() {
+        D result = valueOf(getData());
+        for (Iterator<Map.Entry<K, TreeNode<K, D>>> it = childIterator(); it.hasNext(); ) {
+            result = aggregation.combine(result, it.next().getValue().getAggregate());
+        }
+        aggregate = result;
+    }
+
+    /**
+     * @param data Data of a node.
+     * @return Part of node's aggregate contributed by <i>data</i>: <i>data</i> itself, or the identity if
+     * {@code null}.
+     */
+    private D valueOf(D data) {
+        return data != null ? data : aggregation.identity();
+    }
+
+    /**
+     * Detach a node that is no longer a child of this node, so that later changes to it do not propagate here.
+     *
+     * @param node Former child, or {@code null}.
+     */
+    private void detach(TreeNode<K, D> node) {
+        if (node instanceof AggregatingTreeNode<K, D> child && child.parent == this) {
+            child.parent = null;
+        }
+    }
+}
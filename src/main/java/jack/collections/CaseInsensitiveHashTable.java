@@ -0,0 +1,588 @@
+package jack.collections;
+
+/**
+ * <p>An open-addressing hash table keyed by case-insensitive strings, backing {@link MutableStringKeyMap}.
+ * </p>
+ * <p>Keys are hashed and compared using {@link CaseInsensitiveStrings}, so a lookup neither copies nor converts the
+ * key. Collisions are resolved by linear probing, with the hash code of each key stored alongside it, to reject most
+ * mismatches without comparing strings.
+ * </p>
+ * <p>Each entry is tagged with the type of its value. Object values are kept in a reference array, while primitive
+ * values ({@code int}, {@code long}, {@code double} and {@code boolean}) are kept unboxed in a side array of raw
+ * {@code long} bits. Primitive accessors of a {@link Snapshot} (e.g., {@link Snapshot#getAsLong(String)}) read such
+ * values without creating wrapper objects.
+ * </p>
+ * <p>The table is persistent: slots are split into fixed-size chunks, which are the leaves of a shallow trie (32-way
+ * branching). A write copies only the chunk holding the affected slot and the trie nodes on the path to it, and
+ * publishes the result as a new immutable {@link Snapshot}. Writes therefore cost O(log n), with a base of 32, and
+ * never modify a published snapshot. Growing the table (doubling its capacity) is the only write that copies all
+ * entries; its cost is amortized over the inserts that led to it.
+ * </p>
+ * Lookups read the latest published snapshot and take no locks. Taking a snapshot (see {@link #snapshot()}) returns
+ * that same instance, in constant time. Writes are serialized by this table's monitor.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+final class CaseInsensitiveHashTable {
+
+    //
+    // Value type tags.
+    //
+    static final byte MISSING = 0;
+    static final byte OBJECT = 1;
+    static final byte INT = 2;
+    static final byte LONG = 3;
+    static final byte DOUBLE = 4;
+    static final byte BOOLEAN = 5;
+
+    /**
+     * Number of bits of a slot index that select a slot within its chunk, and the number of bits consumed by each
+     * level of the trie.
+     */
+    private static final int CHUNK_BITS = 5;
+
+    /**
+     * Number of slots in a chunk, and the number of children of a trie node.
+     */
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    /**
+     * Mask selecting a slot within its chunk (or a child within its trie node).
+     */
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * Initial number of slots -- a single chunk.
+     */
+    private static final int INITIAL_CAPACITY = CHUNK_SIZE;
+
+    /**
+     * Latest published state of the table.
+     */
+    private volatile Snapshot current = Snapshot.empty(INITIAL_CAPACITY);
+
+    /**
+     * Fetch a value associated with a key. Primitive values are boxed.
+     *
+     * @param key Key to look by.
+     * @return Associated value, or {@code null} if key does not exist.
+     */
+    Object get(String key) {
+        Snapshot snapshot = current;
+        int slot = snapshot.find(key);
+        return slot < 0 ? null : snapshot.box(slot);
+    }
+
+    /**
+     * Add or update a key/value pair.
+     *
+     * @param key   Key, as it should be stored.
+     * @param value Value to store.
+     * @return Previous value associated with key (boxed, if primitive), or {@code null} if key did not exist.
+     */
+    Object put(String key, Object value) {
+        return put(key, OBJECT, 0L, value);
+    }
+
+    /**
+     * Add or update a key associated with a primitive value.
+     *
+     * @param key  Key, as it should be stored.
+     * @param tag  Type of value (e.g., {@link #LONG}).
+     * @param bits Raw bits of value (e.g., {@link Double#doubleToRawLongBits(double)} for a {@code double}).
+     * @return {@code true} if key was added, {@code false} if updated.
+     */
+    boolean putPrimitive(String key, byte tag, long bits) {
+        return put(key, tag, bits, null) == null;
+    }
+
+    /**
+     * Take a snapshot of this table, in constant time. Later writes to this table do not affect the snapshot.
+     *
+     * @return Immutable snapshot of all key/value pairs.
+     */
+    Snapshot snapshot() {
+        return current;
+    }
+
+    /**
+     * Create an immutable copy of this table, indexed by a minimal perfect hash.
+     *
+     * @return Immutable copy of all key/value pairs.
+     */
+    FrozenStringKeyMap freeze() {
+        Snapshot snapshot = current;
+        String[] keys = new String[snapshot.size];
+        byte[] tags = new byte[snapshot.size];
+        long[] bits = new long[snapshot.size];
+        Object[] values = new Object[snapshot.size];
+
+        int count = 0;
+        for (int slot = 0; slot < snapshot.capacity; slot++) {
+            Chunk chunk = snapshot.chunk(slot);
+            int offset = slot & CHUNK_MASK;
+            if (chunk.keys[offset] != null) {
+                keys[count] = chunk.keys[offset];
+                tags[count] = chunk.tags[offset];
+                bits[count] = chunk.bits[offset];
+                values[count] = chunk.values[offset];
+                count++;
+            }
+        }
+
+        return new FrozenStringKeyMap(keys, tags, bits, values);
+    }
+
+    /**
+     * Add or update an entry, and publish the outcome as a new snapshot.
+     *
+     * @param key   Key, as it should be stored.
+     * @param tag   Type of value.
+     * @param bits  Raw bits of a primitive value.
+     * @param value Object value (if tag is {@link #OBJECT}).
+     * @return Previous value (boxed, if primitive), or {@code null} if key did not exist.
+     */
+    private synchronized Object put(String key, byte tag, long bits, Object value) {
+        int hash = spread(CaseInsensitiveStrings.hash(key));
+
+        Snapshot snapshot = current;
+        int slot = snapshot.indexOf(key, hash);
+        Chunk chunk = snapshot.chunk(slot);
+        int offset = slot & CHUNK_MASK;
+        if (chunk.keys[offset] != null) {
+            Object previous = box(chunk.tags[offset], chunk.bits[offset], chunk.values[offset]);
+            current = snapshot.with(slot, chunk.keys[offset], hash, tag, bits, value, snapshot.size);
+            return previous;
+        }
+
+        if ((snapshot.size + 1) * 4L > snapshot.capacity * 3L) {
+            // Keep load factor below 75% -- grow and relocate the slot for the new key.
+            snapshot = snapshot.resize();
+            slot = snapshot.indexOf(key, hash);
+        }
+        current = snapshot.with(slot, key, hash, tag, bits, value, snapshot.size + 1);
+        return null;
+    }
+
+    /**
+     * Box an entry's value.
+     *
+     * @param tag   Type of value.
+     * @param bits  Raw bits of a primitive value.
+     * @param value Object value.
+     * @return Boxed value, or {@code null} if <i>tag</i> is {@link #MISSING}.
+     */
+    static Object box(byte tag, long bits, Object value) {
+        return switch (tag) {
+            case INT -> (int) bits;
+            case LONG -> bits;
+            case DOUBLE -> Double.longBitsToDouble(bits);
+            case BOOLEAN -> bits != 0L;
+            default -> value;
+        };
+    }
+
+    /**
+     * Convert an entry's value to a {@code long}.
+     *
+     * @param key           Key looked by, for error reporting.
+     * @param tag           Type of value.
+     * @param bits          Raw bits of a primitive value.
+     * @param value         Object value.
+     * @param requestedType Type requested by caller, for error reporting.
+     * @return Value as a {@code long}.
+     * @throws MissingKeyException   If <i>tag</i> is {@link #MISSING}.
+     * @throws TypeMismatchException If value is not numeric.
+     */
+    static long toLong(String key, byte tag, long bits, Object value, Class<?> requestedType)
+            throws MissingKeyException, TypeMismatchException {
+        return switch (tag) {
+            case INT, LONG -> bits;
+            case DOUBLE -> (long) Double.longBitsToDouble(bits);
+            default -> asNumber(key, tag, value, requestedType).longValue();
+        };
+    }
+
+    /**
+     * Convert an entry's value to a {@code double}.
+     *
+     * @param key           Key looked by, for error reporting.
+     * @param tag           Type of value.
+     * @param bits          Raw bits of a primitive value.
+     * @param value         Object value.
+     * @param requestedType Type requested by caller, for error reporting.
+     * @return Value as a {@code double}.
+     * @throws MissingKeyException   If <i>tag</i> is {@link #MISSING}.
+     * @throws TypeMismatchException If value is not numeric.
+     */
+    static double toDouble(String key, byte tag, long bits, Object value, Class<?> requestedType)
+            throws MissingKeyException, TypeMismatchException {
+        return switch (tag) {
+            case INT, LONG -> bits;
+            case DOUBLE -> Double.longBitsToDouble(bits);
+            default -> asNumber(key, tag, value, requestedType).doubleValue();
+        };
+    }
+
+    /**
+     * Convert an entry's value to a {@code boolean}.
+     *
+     * @param key   Key looked by, for error reporting.
+     * @param tag   Type of value.
+     * @param bits  Raw bits of a primitive value.
+     * @param value Object value.
+     * @return Value as a {@code boolean}.
+     * @throws MissingKeyException   If <i>tag</i> is {@link #MISSING}.
+     * @throws TypeMismatchException If value is not a boolean.
+     */
+    static boolean toBoolean(String key, byte tag, long bits, Object value)
+            throws MissingKeyException, TypeMismatchException {
+        if (tag == BOOLEAN) {
+            return bits != 0L;
+        }
+        Object obj = box(key, tag, bits, value);
+        if (obj instanceof Boolean b) {
+            return b;
+        }
+        throw new TypeMismatchException(Boolean.TYPE, obj.getClass());
+    }
+
+    /**
+     * Box an entry's value, failing if it does not exist.
+     *
+     * @param key   Key looked by, for error reporting.
+     * @param tag   Type of value.
+     * @param bits  Raw bits of a primitive value.
+     * @param value Object value.
+     * @return Boxed value.
+     * @throws MissingKeyException If <i>tag</i> is {@link #MISSING}.
+     */
+    private static Object box(String key, byte tag, long bits, Object value) throws MissingKeyException {
+        if (tag == MISSING) {
+            throw new MissingKeyException("Unknown key: " + key);
+        }
+        return box(tag, bits, value);
+    }
+
+    /**
+     * Get a non-primitive entry's value as a {@link Number}.
+     *
+     * @param key           Key looked by, for error reporting.
+     * @param tag           Type of value.
+     * @param value         Object value.
+     * @param requestedType Type requested by caller, for error reporting.
+     * @return Value as a number.
+     * @throws MissingKeyException   If <i>tag</i> is {@link #MISSING}.
+     * @throws TypeMismatchException If value is not a number.
+     */
+    private static Number asNumber(String key, byte tag, Object value, Class<?> requestedType)
+            throws MissingKeyException, TypeMismatchException {
+        Object obj = box(key, tag, 0L, value);
+        if (obj instanceof Number number) {
+            return number;
+        }
+        throw new TypeMismatchException(requestedType, obj.getClass());
+    }
+
+    /**
+     * Spread higher bits of a hash code downwards, as only lower bits select a slot.
+     *
+     * @param hash Hash code.
+     * @return Spread hash code.
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Number of levels above the chunks, for a given capacity.
+     *
+     * @param capacity Number of slots. A power of 2, not less than {@link #CHUNK_SIZE}.
+     * @return Shift of the top-most trie level (0 if the table consists of a single chunk).
+     */
+    private static int shiftOf(int capacity) {
+        int levels = (Integer.numberOfTrailingZeros(capacity) - 1) / CHUNK_BITS;
+        return levels * CHUNK_BITS;
+    }
+
+    /**
+     * A run of {@link #CHUNK_SIZE} consecutive slots. Slot <i>i</i> is empty if {@code keys[i]} is {@code null}. The
+     * value of a slot is either in {@code values} or in {@code bits}, depending on its tag. A chunk is modified only
+     * before it is published.
+     */
+    private static final class Chunk {
+
+        final String[] keys;
+        final int[] hashes;
+        final byte[] tags;
+        final long[] bits;
+        final Object[] values;
+
+        Chunk() {
+            this(new String[CHUNK_SIZE], new int[CHUNK_SIZE], new byte[CHUNK_SIZE], new long[CHUNK_SIZE],
+                    new Object[CHUNK_SIZE]);
+        }
+
+        private Chunk(String[] keys, int[] hashes, byte[] tags, long[] bits, Object[] values) {
+            this.keys = keys;
+            this.hashes = hashes;
+            this.tags = tags;
+            this.bits = bits;
+            this.values = values;
+        }
+
+        /**
+         * @return A modifiable copy of this chunk.
+         */
+        Chunk copy() {
+            return new Chunk(keys.clone(), hashes.clone(), tags.clone(), bits.clone(), values.clone());
+        }
+
+        /**
+         * Set the entry of a slot.
+         *
+         * @param offset Slot within this chunk.
+         * @param key    Key.
+         * @param hash   Spread hash code of key.
+         * @param tag    Type of value.
+         * @param bits   Raw bits of a primitive value.
+         * @param value  Object value.
+         */
+        void set(int offset, String key, int hash, byte tag, long bits, Object value) {
+            this.keys[offset] = key;
+            this.hashes[offset] = hash;
+            this.tags[offset] = tag;
+            this.bits[offset] = bits;
+            this.values[offset] = value;
+        }
+    }
+
+    /**
+     * <p>An immutable state of the table.
+     * </p>
+     * Slots are held by chunks, the leaves of a trie whose inner nodes are plain {@code Object[]} arrays of
+     * {@link #CHUNK_SIZE} children (the root may have fewer). The chunk of a slot is selected by the slot's higher
+     * bits, {@link #CHUNK_BITS} bits per level, starting at {@link #shift}.
+     */
+    static final class Snapshot extends AbstractStringKeyMap {
+
+        /**
+         * Root of trie: either a {@link Chunk} (if {@link #shift} is 0) or an {@code Object[]} of children.
+         */
+        private final Object root;
+
+        /**
+         * Shift of the top-most trie level.
+         */
+        private final int shift;
+
+        /**
+         * Number of slots. A power of 2.
+         */
+        private final int capacity;
+
+        /**
+         * Number of keys in snapshot.
+         */
+        private final int size;
+
+        /**
+         * Class constructor.
+         *
+         * @param root     Root of trie.
+         * @param shift    Shift of the top-most trie level.
+         * @param capacity Number of slots.
+         * @param size     Number of keys.
+         */
+        private Snapshot(Object root, int shift, int capacity, int size) {
+            this.root = root;
+            this.shift = shift;
+            this.capacity = capacity;
+            this.size = size;
+        }
+
+        /**
+         * Create an empty snapshot.
+         *
+         * @param capacity Number of slots. A power of 2, not less than {@link #CHUNK_SIZE}.
+         * @return New snapshot, whose chunks may still be modified (i.e., before it is published).
+         */
+        static Snapshot empty(int capacity) {
+            int shift = shiftOf(capacity);
+            return new Snapshot(emptyNode(shift, capacity >>> shift), shift, capacity, 0);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        protected int find(String key) {
+            int slot = indexOf(key, spread(CaseInsensitiveStrings.hash(key)));
+            return chunk(slot).keys[slot & CHUNK_MASK] != null ? slot : -1;
+        }
+
+        @Override
+        protected int slotCount() {
+            return capacity;
+        }
+
+        @Override
+        protected String key(int slot) {
+            return chunk(slot).keys[slot & CHUNK_MASK];
+        }
+
+        @Override
+        protected Object box(int slot) {
+            Chunk chunk = chunk(slot);
+            int offset = slot & CHUNK_MASK;
+            return CaseInsensitiveHashTable.box(chunk.tags[offset], chunk.bits[offset], chunk.values[offset]);
+        }
+
+        @Override
+        protected long toLong(String key, int slot, Class<?> requestedType) {
+            Chunk chunk = chunk(slot);
+            int offset = slot & CHUNK_MASK;
+            return CaseInsensitiveHashTable.toLong(key, chunk.tags[offset], chunk.bits[offset], chunk.values[offset],
+                    requestedType);
+        }
+
+        @Override
+        protected double toDouble(String key, int slot, Class<?> requestedType) {
+            Chunk chunk = chunk(slot);
+            int offset = slot & CHUNK_MASK;
+            return CaseInsensitiveHashTable.toDouble(key, chunk.tags[offset], chunk.bits[offset], chunk.values[offset],
+                    requestedType);
+        }
+
+        @Override
+        protected boolean toBoolean(String key, int slot) {
+            Chunk chunk = chunk(slot);
+            int offset = slot & CHUNK_MASK;
+            return CaseInsensitiveHashTable.toBoolean(key, chunk.tags[offset], chunk.bits[offset], chunk.values[offset]);
+        }
+
+        /**
+         * @param slot Slot index.
+         * @return Chunk holding <i>slot</i>.
+         */
+        Chunk chunk(int slot) {
+            Object node = root;
+            for (int level = shift; level > 0; level -= CHUNK_BITS) {
+                node = ((Object[]) node)[(slot >>> level) & CHUNK_MASK];
+            }
+            return (Chunk) node;
+        }
+
+        /**
+         * Find the slot of a key, or the empty slot it should be placed in.
+         *
+         * @param key  Key to look by.
+         * @param hash Spread hash code of <i>key</i>.
+         * @return Index of slot.
+         */
+        int indexOf(String key, int hash) {
+            int mask = capacity - 1;
+            int slot = hash & mask;
+            Chunk chunk = chunk(slot);
+            while (true) {
+                int offset = slot & CHUNK_MASK;
+                String candidate = chunk.keys[offset];
+                if (candidate == null
+                        || (chunk.hashes[offset] == hash && CaseInsensitiveStrings.equals(candidate, key))) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+                if ((slot & CHUNK_MASK) == 0) {
+                    chunk = chunk(slot);
+                }
+            }
+        }
+
+        /**
+         * Create a snapshot with a single slot changed. Only the chunk of the slot and the trie nodes leading to it
+         * are copied; all other chunks are shared with this snapshot.
+         *
+         * @param slot  Slot to set.
+         * @param key   Key.
+         * @param hash  Spread hash code of key.
+         * @param tag   Type of value.
+         * @param bits  Raw bits of a primitive value.
+         * @param value Object value.
+         * @param size  Number of keys in the new snapshot.
+         * @return New snapshot.
+         */
+        Snapshot with(int slot, String key, int hash, byte tag, long bits, Object value, int size) {
+            return new Snapshot(with(root, shift, slot, key, hash, tag, bits, value), shift, capacity, size);
+        }
+
+        /**
+         * Create a snapshot, double in capacity, holding all keys of this snapshot.
+         *
+         * @return New snapshot, whose chunks may still be modified (i.e., before it is published).
+         */
+        Snapshot resize() {
+            Snapshot resized = empty(capacity * 2);
+            int mask = resized.capacity - 1;
+            for (int slot = 0; slot < capacity; slot++) {
+                Chunk chunk = chunk(slot);
+                int offset = slot & CHUNK_MASK;
+                if (chunk.keys[offset] != null) {
+                    int target = chunk.hashes[offset] & mask;
+                    while (resized.key(target) != null) {
+                        target = (target + 1) & mask;
+                    }
+                    resized.chunk(target).set(target & CHUNK_MASK, chunk.keys[offset], chunk.hashes[offset],
+                            chunk.tags[offset], chunk.bits[offset], chunk.values[offset]);
+                }
+            }
+            return new Snapshot(resized.root, resized.shift, resized.capacity, size);
+        }
+
+        /**
+         * Copy the path to a slot, and set the slot in the copied chunk.
+         *
+         * @param node  Trie node (or chunk) to copy.
+         * @param level Shift of <i>node</i>'s level (0 for a chunk).
+         * @param slot  Slot to set.
+         * @param key   Key.
+         * @param hash  Spread hash code of key.
+         * @param tag   Type of value.
+         * @param bits  Raw bits of a primitive value.
+         * @param value Object value.
+         * @return Copy of <i>node</i>.
+         */
+        private static Object with(Object node, int level, int slot, String key, int hash, byte tag, long bits,
+                                   Object value) {
+            if (level == 0) {
+                Chunk chunk = ((Chunk) node).copy();
+                chunk.set(slot & CHUNK_MASK, key, hash, tag, bits, value);
+                return chunk;
+            }
+            Object[] children = ((Object[]) node).clone();
+            int child = (slot >>> level) & CHUNK_MASK;
+            children[child] = with(children[child], level - CHUNK_BITS, slot, key, hash, tag, bits, value);
+            return children;
+        }
+
+        /**
+         * Create an empty trie node (or chunk).
+         *
+         * @param level      Shift of node's level (0 for a chunk).
+         * @param childCount Number of children.
+         * @return New node.
+         */
+        private static Object emptyNode(int level, int childCount) {
+            if (level == 0) {
+                return new Chunk();
+            }
+            Object[] children = new Object[childCount];
+            for (int child = 0; child < childCount; child++) {
+                children[child] = emptyNode(level - CHUNK_BITS, CHUNK_SIZE);
+            }
+            return children;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package jack.collections;
+
+/**
+ * <p>Case-insensitive string operations that neither allocate nor depend on the default locale.
+ * </p>
+ * Characters are compared by their <i>simple case folding</i>: two characters are considered equal if their lower-case
+ * forms of their upper-case forms are equal (the same rule {@link String#equalsIgnoreCase(String)} uses). ASCII
+ * characters take a fast path that avoids the Unicode tables.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+final class CaseInsensitiveStrings {
+
+    /**
+     * Class constructor. This is a utility class, no instances are allowed.
+     */
+    private CaseInsensitiveStrings() {
+    }
+
+    /**
+     * Fold a character into a case-insensitive form.
+     *
+     * @param c Character to fold.
+     * @return Case-folded character.
+     */
+    static char fold(char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Calculate a case-insensitive hash code. Strings that are {@link #equals(String, String) equal} have the same
+     * hash code.
+     *
+     * @param str String to hash.
+     * @return Hash code of <i>str</i>.
+     */
+    static int hash(String str) {
+        int hash = 0;
+        for (int index = 0; index < str.length(); index++) {
+            hash = 31 * hash + fold(str.charAt(index));
+        }
+        return hash;
+    }
+
+    /**
+     * Calculate a seeded, case-insensitive 64-bit hash code. Strings that are {@link #equals(String, String) equal}
+     * have the same hash code for any given seed.
+     *
+     * @param str  String to hash.
+     * @param seed Seed to start with.
+     * @return Hash code of <i>str</i>.
+     */
+    static long hash64(String str, long seed) {
+        long hash = seed;
+        for (int index = 0; index < str.length(); index++) {
+            hash = (hash + fold(str.charAt(index))) * 0x9E3779B97F4A7C15L;
+        }
+        return mix(hash ^ str.length());
+    }
+
+    /**
+     * Scramble all bits of a 64-bit value (MurmurHash3 finalizer), so that each input bit affects every output bit.
+     *
+     * @param value Value to scramble.
+     * @return Scrambled value.
+     */
+    static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+
+    /**
+     * Compare two strings, ignoring case.
+     *
+     * @param a First string.
+     * @param b Second string.
+     * @return {@code true} if both strings are equal, ignoring case.
+     */
+    static boolean equals(String a, String b) {
+        if (a == b) {
+            return true;
+        }
+        if (a.length() != b.length()) {
+            return false;
+        }
+
+        for (int index = 0; index < a.length(); index++) {
+            char c1 = a.charAt(index);
+            char c2 = b.charAt(index);
+            if (c1 != c2 && fold(c1) != fold(c2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convert a string to upper-case, character by character, regardless of the default locale. Unlike
+     * {@link String#toUpperCase()}, the length of the string never changes (e.g., <i>&szlig;</i> is kept as-is), so the
+     * result is always {@link #equals(String, String) equal} to the original string.
+     *
+     * @param str String to convert.
+     * @return Upper-case form of <i>str</i>. The same instance is returned if it is already in upper-case.
+     */
+    static String toUpperCase(String str) {
+        for (int index = 0; index < str.length(); index++) {
+            char c = str.charAt(index);
+            if (Character.toUpperCase(c) != c) {
+                // Found a character to convert. Convert it along with all remaining characters.
+                char[] chars = str.toCharArray();
+                for (int i = index; i < chars.length; i++) {
+                    chars[i] = Character.toUpperCase(chars[i]);
+                }
+                return new String(chars);
+            }
+        }
+        return str;
+    }
+}
@@ -0,0 +1,83 @@
+package jack.collections;
+
+/**
+ * <p>A thread-safe counterpart of {@link Tree}.
+ * </p>
+ * <p>Lookups (e.g., {@link #getNode(Object[])}) are lock-free: they walk the tree without any locking, and are never
+ * blocked by concurrent changes. Changes lock only the node whose children change, so changes to different parts of
+ * the tree proceed in parallel. See {@link ConcurrentTreeNode} for details.
+ * </p>
+ * The tree is optimized for read-mostly workloads (e.g., a routing table that is queried very often and updated
+ * rarely), as each change copies the children of a single node.
+ *
+ * @param <K> Generic type of node's key.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class ConcurrentTree<K, D> {
+
+    /**
+     * Root node of the tree.
+     */
+    private final ConcurrentTreeNode<K, D> rootNode = new ConcurrentTreeNode<>();
+
+    /**
+     * Class constructor.
+     */
+    public ConcurrentTree() {
+    }
+
+    /**
+     * Find a node based on path to it.
+     *
+     * @param path Set of keys denoting a Path to the target node.
+     * @return Node denoted by <i>keyPath</i> or {@code null} no such node exists.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // Path is only read by the root node.
+    public final ConcurrentTreeNode<K, D> getNode(K... path) {
+        return rootNode.getNode(path);
+    }
+
+    /**
+     * Fetch a node denoted by a given path (set of keys). If nodes in the path do not exist during search, new
+     * nodes are created with {@code null} data. A node created while an ancestor is concurrently removed is created
+     * again, so the returned node is part of the tree (see {@link ConcurrentTreeNode#getOrCreateNode(Object[])}).
+     *
+     * @param path Path to node.
+     * @return Node denoted by <i>path</i>.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // Path is only read by the root node.
+    public final ConcurrentTreeNode<K, D> getOrCreateNode(K... path) {
+        return rootNode.getOrCreateNode(path);
+    }
+
+    /**
+     * Remove a node (with all of its children) denoted by a given path.
+     *
+     * @param path Path to node.
+     * @return {@code true} if node exists and is removed, {@code false} if node does not exist.
+     */
+    @SafeVarargs
+    public final boolean remove(K... path) {
+        if (path.length == 0) {
+            throw new IllegalArgumentException("Path requires to have at least one key.");
+        }
+
+        ConcurrentTreeNode<K, D> parent = rootNode;
+        for (int index = 0; parent != null && index < path.length - 1; index++) {
+            parent = parent.getNode(path[index]);
+        }
+        return parent != null && parent.remove(path[path.length - 1]);
+    }
+
+    /**
+     * @return Root node of this tree. Each tree is created with a root node.
+     */
+    public ConcurrentTreeNode<K, D> getRoot() {
+        return rootNode;
+    }
+
+}
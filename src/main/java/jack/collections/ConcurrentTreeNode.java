@@ -0,0 +1,217 @@
+package jack.collections;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * <p>A thread-safe counterpart of {@link TreeNode}, used by {@link ConcurrentTree}.
+ * </p>
+ * <p>Children are kept in an immutable map, replaced as a whole whenever a child is added or removed
+ * (copy-on-write). Lookups simply read the current map, so they never lock or wait, and always observe a consistent
+ * set of children. Changes are serialized per node -- changing children of one node never blocks changes to
+ * another. Children preserve insertion order.
+ * </p>
+ * <p>A node removed from its parent (see {@link #remove(Object)}), or replaced by {@link #add(Object, Object)}, is marked
+ * as detached. {@link #getOrCreateNode(Object[])} uses this mark to detect a node it created under a subtree that was
+ * removed concurrently, and retries, so the node it returns is reachable from the node it was called on.
+ * </p>
+ * This design favours read-mostly trees (e.g., routing tables): each change copies the children of a single node.
+ *
+ * @param <K> Generic type of node's key.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class ConcurrentTreeNode<K, D> {
+
+    /**
+     * Children of this node. The map itself is never modified; it is replaced (under this node's monitor) on change.
+     */
+    private volatile Map<K, ConcurrentTreeNode<K, D>> children = Collections.emptyMap();
+
+    /**
+     * Data associated the current node.
+     */
+    private volatile D data;
+
+    /**
+     * Indicates this node was removed from (or replaced within) its parent. Once set, never cleared.
+     */
+    private volatile boolean detached;
+
+    /**
+     * Class constructor.
+     */
+    public ConcurrentTreeNode() {
+        this(null);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param data Optional data to associate with this node.
+     */
+    public ConcurrentTreeNode(D data) {
+        this.data = data;
+    }
+
+    /**
+     * @return Return associated data. May be {@code null}.
+     */
+    public D getData() {
+        return data;
+    }
+
+    /**
+     * Associate new data with this node.
+     *
+     * @param data New data to associate. May be {@code null}.
+     */
+    public void setData(D data) {
+        this.data = data;
+    }
+
+    /**
+     * Add a new child to this node.
+     *
+     * @param key  Key that identifies the child. If this key already exists, it is overridden.
+     * @param data Data to set for the new node.
+     * @return Newly created node.
+     */
+    public ConcurrentTreeNode<K, D> add(K key, D data) {
+        ConcurrentTreeNode<K, D> newNode = new ConcurrentTreeNode<>(data);
+        synchronized (this) {
+            Map<K, ConcurrentTreeNode<K, D>> copy = new LinkedHashMap<>(children);
+            ConcurrentTreeNode<K, D> replaced = copy.put(key, newNode);
+            if (replaced != null) {
+                replaced.detached = true;
+            }
+            children = Collections.unmodifiableMap(copy);
+        }
+        return newNode;
+    }
+
+    /**
+     * Fetch node based on given <i>key</i>.
+     *
+     * @param key Key of node.
+     * @return Node matching given <i>key</i> or {@code null} if no such key exists.
+     */
+    public ConcurrentTreeNode<K, D> getNode(K key) {
+        return this.children.get(key);
+    }
+
+    /**
+     * Fetch node given a path.
+     *
+     * @param path Path (set of keys) to target node.
+     * @return Node matching given <i>path</i> or {@code null} if no such node exists.
+     */
+    @SafeVarargs
+    public final ConcurrentTreeNode<K, D> getNode(K... path) {
+        if (path.length == 0) {
+            throw new IllegalArgumentException("Path requires to have at least one key.");
+        }
+
+        ConcurrentTreeNode<K, D> current = this;
+        int index = 0;
+        while (current != null && index < path.length) {
+            current = current.getNode(path[index]);
+            index++;
+        }
+
+        return current;
+    }
+
+    /**
+     * <p>Fetch a node denoted by a given path (set of keys). If nodes in the path do not exist during search, new
+     * nodes are created with {@code null} data. Concurrent calls creating the same node agree on a single instance.
+     * </p>
+     * If a node is created while some node along the path is concurrently removed, the new node would hang under a
+     * removed subtree. This is detected (removed nodes are marked as detached), and the path is walked again from this node, so the
+     * returned node was reachable from this node after it was created. The returned node may still be removed by a
+     * later change, as any other node.
+     *
+     * @param path Path to node.
+     * @return Node denoted by <i>path</i>.
+     */
+    @SafeVarargs
+    public final ConcurrentTreeNode<K, D> getOrCreateNode(K... path) {
+        if (path.length == 0) {
+            throw new IllegalArgumentException("Path requires to have at least one key.");
+        }
+
+        retry:
+        while (true) {
+            ConcurrentTreeNode<K, D> node = this;
+            boolean created = false;
+            for (K key : path) {
+                ConcurrentTreeNode<K, D> child = node.getNode(key);
+                if (child == null) {
+                    child = node.getOrAdd(key);
+                    created = true;
+                }
+                node = child;
+            }
+            if (!created) {
+                return node;
+            }
+
+            // Walk the path again, checking that no node along it was detached. Detachment is never undone, so if
+            // each node is still attached when visited, the entire path was attached when the first one was.
+            ConcurrentTreeNode<K, D> current = this;
+            for (K key : path) {
+                current = current.getNode(key);
+                if (current == null || current.detached) {
+                    continue retry;
+                }
+            }
+            if (current == node) {
+                return node;
+            }
+        }
+    }
+
+    /**
+     * Remove a node (with all of its children).
+     *
+     * @param key A node to remove.
+     * @return {@code true} if node exists and is removed, {@code false} if node does not exist.
+     */
+    public boolean remove(K key) {
+        synchronized (this) {
+            if (!children.containsKey(key)) {
+                return false;
+            }
+            Map<K, ConcurrentTreeNode<K, D>> copy = new LinkedHashMap<>(children);
+            copy.remove(key).detached = true;
+            children = copy.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(copy);
+            return true;
+        }
+    }
+
+    /**
+     * @return List of children's node data. Will exclude {@code null} values.
+     */
+    public List<D> getChildrenData() {
+        return this.children.values().stream().map(ConcurrentTreeNode::getData).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * Fetch a child, adding a new one (with {@code null} data) if it does not exist.
+     *
+     * @param key Key of child.
+     * @return Existing or newly created child.
+     */
+    private ConcurrentTreeNode<K, D> getOrAdd(K key) {
+        synchronized (this) {
+            // Re-check while holding the monitor -- another thread may have added this child meanwhile.
+            ConcurrentTreeNode<K, D> child = children.get(key);
+            return child != null ? child : add(key, null);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package jack.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>An immutable {@link ReadOnlyMap} with case-insensitive string keys, created by
+ * {@link MutableStringKeyMap#freeze()}.
+ * </p>
+ * <p>Entries are stored in flat arrays, indexed by a minimal perfect hash function built with the
+ * <i>hash and displace</i> (CHD) scheme: keys are first distributed into small buckets, then each bucket is assigned a
+ * displacement that places all of its keys in distinct, unoccupied slots. A lookup therefore computes exactly one slot
+ * and compares a single key -- there is no probing and no synchronization.
+ * </p>
+ * Instances are immutable and can be shared among threads. Building an instance takes time proportional to the number
+ * of keys, so it should be done in bulk (e.g., once per configuration change) rather than per update.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+final class FrozenStringKeyMap extends AbstractStringKeyMap {
+
+    /**
+     * Average number of keys per bucket.
+     */
+    private static final int KEYS_PER_BUCKET = 4;
+
+    /**
+     * Multiplier applied to a bucket's displacement, before mixing it with a key's hash code.
+     */
+    private static final long DISPLACEMENT_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Seed used for hashing keys. Replaced only in the (unlikely) case no displacements could be found.
+     */
+    private final long seed;
+
+    /**
+     * Displacement of each bucket.
+     */
+    private final int[] displacements;
+
+    //
+    // Entries, by slot.
+    //
+    private final String[] keys;
+    private final long[] hashes;
+    private final byte[] tags;
+    private final long[] bits;
+    private final Object[] values;
+
+    /**
+     * Class constructor. Arrays are indexed by entry; all must have the same length, and keys must be distinct
+     * (ignoring case).
+     *
+     * @param keys   Keys.
+     * @param tags   Type of each value.
+     * @param bits   Raw bits of primitive values.
+     * @param values Object values.
+     */
+    FrozenStringKeyMap(String[] keys, byte[] tags, long[] bits, Object[] values) {
+        int count = keys.length;
+        this.keys = new String[count];
+        this.hashes = new long[count];
+        this.tags = new byte[count];
+        this.bits = new long[count];
+        this.values = new Object[count];
+        this.displacements = new int[Math.max(1, (count + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET)];
+
+        long candidateSeed = 0L;
+        int[] slots;
+        while ((slots = place(keys, candidateSeed)) == null) {
+            candidateSeed = CaseInsensitiveStrings.mix(candidateSeed + 1);
+        }
+        this.seed = candidateSeed;
+
+        for (int entry = 0; entry < count; entry++) {
+            int slot = slots[entry];
+            this.keys[slot] = keys[entry];
+            this.hashes[slot] = CaseInsensitiveStrings.hash64(keys[entry], seed);
+            this.tags[slot] = tags[entry];
+            this.bits[slot] = bits[entry];
+            this.values[slot] = values[entry];
+        }
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    protected int find(String key) {
+        if (keys.length == 0) {
+            return -1;
+        }
+        long hash = CaseInsensitiveStrings.hash64(key, seed);
+        int slot = slotOf(hash, displacements[reduce(hash, displacements.length)], keys.length);
+        return hashes[slot] == hash && CaseInsensitiveStrings.equals(keys[slot], key) ? slot : -1;
+    }
+
+    @Override
+    protected int slotCount() {
+        return keys.length;
+    }
+
+    @Override
+    protected String key(int slot) {
+        return keys[slot];
+    }
+
+    @Override
+    protected Object box(int slot) {
+        return CaseInsensitiveHashTable.box(tags[slot], bits[slot], values[slot]);
+    }
+
+    @Override
+    protected long toLong(String key, int slot, Class<?> requestedType) throws TypeMismatchException {
+        return CaseInsensitiveHashTable.toLong(key, tags[slot], bits[slot], values[slot], requestedType);
+    }
+
+    @Override
+    protected double toDouble(String key, int slot, Class<?> requestedType) throws TypeMismatchException {
+        return CaseInsensitiveHashTable.toDouble(key, tags[slot], bits[slot], values[slot], requestedType);
+    }
+
+    @Override
+    protected boolean toBoolean(String key, int slot) throws TypeMismatchException {
+        return CaseInsensitiveHashTable.toBoolean(key, tags[slot], bits[slot], values[slot]);
+    }
+
+    /**
+     * Assign a distinct slot to each key, recording the displacement of each bucket in {@link #displacements}.
+     *
+     * @param keys Keys to place.
+     * @param seed Seed to hash keys with.
+     * @return Slot of each key, or {@code null} if some bucket could not be placed (i.e., a different seed should be
+     * used).
+     */
+    private int[] place(String[] keys, long seed) {
+        int count = keys.length;
+        int bucketCount = displacements.length;
+
+        // Distribute keys into buckets.
+        long[] keyHashes = new long[count];
+        List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            buckets.add(new ArrayList<>(KEYS_PER_BUCKET));
+        }
+        for (int entry = 0; entry < count; entry++) {
+            keyHashes[entry] = CaseInsensitiveStrings.hash64(keys[entry], seed);
+            buckets.get(reduce(keyHashes[entry], bucketCount)).add(entry);
+        }
+
+        // Place larger buckets first, while most slots are still free.
+        Integer[] order = new Integer[bucketCount];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            order[bucket] = bucket;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer bucket) -> buckets.get(bucket).size()).reversed());
+
+        int[] slots = new int[count];
+        boolean[] occupied = new boolean[count];
+        int[] candidates = new int[KEYS_PER_BUCKET];
+        long maxDisplacement = 64L * count + 1024;
+        for (int bucket : order) {
+            List<Integer> entries = buckets.get(bucket);
+            if (entries.isEmpty()) {
+                break;
+            }
+            if (candidates.length < entries.size()) {
+                candidates = new int[entries.size()];
+            }
+
+            int displacement = 0;
+            while (!fits(entries, keyHashes, displacement, occupied, candidates)) {
+                if (++displacement > maxDisplacement) {
+                    return null;
+                }
+            }
+
+            displacements[bucket] = displacement;
+            for (int index = 0; index < entries.size(); index++) {
+                occupied[candidates[index]] = true;
+                slots[entries.get(index)] = candidates[index];
+            }
+        }
+
+        return slots;
+    }
+
+    /**
+     * Test whether all keys of a bucket can be placed using a given displacement.
+     *
+     * @param entries      Keys of bucket.
+     * @param keyHashes    Hash codes of all keys.
+     * @param displacement Displacement to test.
+     * @param occupied     Slots already taken by other buckets.
+     * @param candidates   Receives the slot of each key of the bucket.
+     * @return {@code true} if all keys fall in distinct, free slots.
+     */
+    private static boolean fits(List<Integer> entries,
+                                long[] keyHashes,
+                                int displacement,
+                                boolean[] occupied,
+                                int[] candidates) {
+        for (int index = 0; index < entries.size(); index++) {
+            int slot = slotOf(keyHashes[entries.get(index)], displacement, occupied.length);
+            if (occupied[slot]) {
+                return false;
+            }
+            for (int previous = 0; previous < index; previous++) {
+                if (candidates[previous] == slot) {
+                    return false;
+                }
+            }
+            candidates[index] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Calculate the slot of a key.
+     *
+     * @param hash         Hash code of key.
+     * @param displacement Displacement of key's bucket.
+     * @param slotCount    Number of slots.
+     * @return Slot of key.
+     */
+    private static int slotOf(long hash, int displacement, int slotCount) {
+        return reduce(CaseInsensitiveStrings.mix(hash + displacement * DISPLACEMENT_MULTIPLIER), slotCount);
+    }
+
+    /**
+     * Map a hash code into a range, using its upper 32 bits (multiply-shift rather than modulo).
+     *
+     * @param hash  Hash code.
+     * @param range Size of range.
+     * @return A value between 0 (inclusive) and <i>range</i> (exclusive).
+     */
+    private static int reduce(long hash, int range) {
+        return (int) (((hash >>> 32) * range) >>> 32);
+    }
+}
@@ -0,0 +1,314 @@
+package jack.collections;
+
+import jack.utils.Asserts;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static jack.collections.TreeBinaryFormat.DATA_OFFSET;
+import static jack.collections.TreeBinaryFormat.HASH_ENTRY_SIZE;
+import static jack.collections.TreeBinaryFormat.HASH_INDEX_OFFSET;
+import static jack.collections.TreeBinaryFormat.HEADER_SIZE;
+import static jack.collections.TreeBinaryFormat.MAGIC;
+import static jack.collections.TreeBinaryFormat.NODE_COUNT_OFFSET;
+import static jack.collections.TreeBinaryFormat.NODE_SIZE;
+import static jack.collections.TreeBinaryFormat.NODE_TABLE_OFFSET;
+import static jack.collections.TreeBinaryFormat.STRING_BYTES_OFFSET;
+import static jack.collections.TreeBinaryFormat.STRING_COUNT_OFFSET;
+import static jack.collections.TreeBinaryFormat.STRING_OFFSETS_OFFSET;
+import static jack.collections.TreeBinaryFormat.VERSION;
+
+/**
+ * <p>A read-only tree served directly from its binary form (see {@link TreeBinaryFormat}), typically a memory-mapped
+ * file.
+ * </p>
+ * <p>Opening a tree only validates its header; no node is materialized. Lookups (e.g., {@link #getNode(String...)})
+ * walk the node table within the buffer, binary-searching the children of each node by key hash code and then comparing
+ * UTF-8 bytes, and data is decoded only when requested. The
+ * operating system pages in the parts of the file actually used, so startup time does not depend on tree size.
+ * </p>
+ * Example:
+ * <pre>
+ *     TreeBinaryFormat.write(tree, TreeDataCodec.strings(), file);
+ *
+ *     // Later (e.g., on startup):
+ *     MappedTree&lt;String&gt; mapped = MappedTree.open(file, TreeDataCodec.strings());
+ *     String data = mapped.getNode("a", "b", "c").getData();
+ * </pre>
+ * Instances are immutable and can be shared among threads.
+ *
+ * @param <D> Generic type of data.
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public final class MappedTree<D> {
+
+    /**
+     * Binary form of tree. Accessed only by absolute reads, which are safe among threads.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Codec to decode data with.
+     */
+    private final TreeDataCodec<D> codec;
+
+    //
+    // Header fields.
+    //
+    private final int nodeCount;
+    private final int stringCount;
+    private final int stringOffsetsPos;
+    private final int stringBytesPos;
+    private final int nodeTablePos;
+    private final int hashIndexPos;
+    private final int dataPos;
+
+    /**
+     * Class constructor.
+     *
+     * @param buffer Binary form of tree.
+     * @param codec  Codec to decode data with.
+     * @throws IOException If buffer does not hold a valid tree.
+     */
+    private MappedTree(ByteBuffer buffer, TreeDataCodec<D> codec) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a binary tree.");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported binary tree version: " + buffer.getInt(4) + ".");
+        }
+
+        this.buffer = buffer;
+        this.codec = codec;
+        this.nodeCount = buffer.getInt(NODE_COUNT_OFFSET);
+        this.stringCount = buffer.getInt(STRING_COUNT_OFFSET);
+        this.stringOffsetsPos = buffer.getInt(STRING_OFFSETS_OFFSET);
+        this.stringBytesPos = buffer.getInt(STRING_BYTES_OFFSET);
+        this.nodeTablePos = buffer.getInt(NODE_TABLE_OFFSET);
+        this.hashIndexPos = buffer.getInt(HASH_INDEX_OFFSET);
+        this.dataPos = buffer.getInt(DATA_OFFSET);
+
+        if (nodeCount < 1
+                || (long) nodeTablePos + (long) nodeCount * NODE_SIZE > hashIndexPos
+                || (long) hashIndexPos + (long) nodeCount * HASH_ENTRY_SIZE > dataPos
+                || dataPos > buffer.limit()) {
+            throw new IOException("Corrupted binary tree.");
+        }
+    }
+
+    /**
+     * Open a tree file by memory-mapping it.
+     *
+     * @param file  File to open.
+     * @param codec Codec to decode data with.
+     * @param <D>   Generic type of data.
+     * @return Tree backed by the file.
+     * @throws IllegalArgumentException If either arguments are {@code null}.
+     * @throws IOException              If file could not be mapped, or does not hold a valid tree.
+     */
+    public static <D> MappedTree<D> open(Path file, TreeDataCodec<D> codec) throws IllegalArgumentException, IOException {
+        Asserts.notNull(file, "File cannot be null.");
+        Asserts.notNull(codec, "Codec cannot be null.");
+
+        // The mapping remains valid after the channel is closed.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedTree<>(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), codec);
+        }
+    }
+
+    /**
+     * Wrap a buffer holding a tree in binary form (e.g., a tree read into memory).
+     *
+     * @param buffer Buffer holding tree, starting at index 0. Must not be changed afterwards.
+     * @param codec  Codec to decode data with.
+     * @param <D>    Generic type of data.
+     * @return Tree backed by the buffer.
+     * @throws IllegalArgumentException If either arguments are {@code null}.
+     * @throws IOException              If buffer does not hold a valid tree.
+     */
+    public static <D> MappedTree<D> of(ByteBuffer buffer, TreeDataCodec<D> codec)
+            throws IllegalArgumentException, IOException {
+        Asserts.notNull(buffer, "Buffer cannot be null.");
+        Asserts.notNull(codec, "Codec cannot be null.");
+        return new MappedTree<>(buffer.duplicate(), codec);
+    }
+
+    /**
+     * @return Root node of this tree.
+     */
+    public MappedTreeNode<D> getRoot() {
+        return new MappedTreeNode<>(this, 0);
+    }
+
+    /**
+     * Find a node based on path to it.
+     *
+     * @param path Set of keys denoting a path to the target node.
+     * @return Node denoted by <i>path</i> or {@code null} if no such node exists.
+     */
+    public MappedTreeNode<D> getNode(String... path) {
+        return getRoot().getNode(path);
+    }
+
+    /**
+     * @return Number of nodes in this tree, including its root.
+     */
+    public int size() {
+        return nodeCount;
+    }
+
+    /**
+     * Materialize this tree into a (mutable) {@link Tree}.
+     *
+     * @return A new tree holding all nodes of this tree.
+     */
+    public Tree<String, D> toTree() {
+        Tree<String, D> tree = new Tree<>();
+        tree.getRoot().setData(data(0));
+
+        Deque<TreeNode<String, D>> nodes = new ArrayDeque<>();
+        Deque<Integer> indexes = new ArrayDeque<>();
+        nodes.add(tree.getRoot());
+        indexes.add(0);
+        while (!nodes.isEmpty()) {
+            TreeNode<String, D> node = nodes.poll();
+            int index = indexes.poll();
+            int first = firstChild(index);
+            for (int child = first; child < first + childCount(index); child++) {
+                nodes.add(node.add(key(child), data(child)));
+                indexes.add(child);
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * @param index Index of node.
+     * @return Key of node, or {@code null} for the root.
+     */
+    String key(int index) {
+        int stringIndex = buffer.getInt(record(index));
+        if (stringIndex < 0) {
+            return null;
+        }
+        int start = stringOffset(stringIndex);
+        byte[] bytes = new byte[stringOffset(stringIndex + 1) - start];
+        buffer.get(stringBytesPos + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param index Index of node.
+     * @return Index of node's first child.
+     */
+    int firstChild(int index) {
+        return buffer.getInt(record(index) + 4);
+    }
+
+    /**
+     * @param index Index of node.
+     * @return Number of node's children.
+     */
+    int childCount(int index) {
+        return buffer.getInt(record(index) + 8);
+    }
+
+    /**
+     * @param index Index of node.
+     * @return Decoded data of node, or {@code null} if node has no data.
+     */
+    D data(int index) {
+        int offset = buffer.getInt(record(index) + 12);
+        if (offset < 0) {
+            return null;
+        }
+        int position = dataPos + offset;
+        return codec.decode(buffer.slice(position + Integer.BYTES, buffer.getInt(position)));
+    }
+
+    /**
+     * Find a child by its key.
+     *
+     * @param index Index of parent node.
+     * @param key   Key to look by.
+     * @return Index of child, or -1 if no such child exists.
+     */
+    int findChild(int index, String key) {
+        int hash = key.hashCode();
+        int first = firstChild(index);
+        int last = first + childCount(index);
+
+        // Binary search for the first child with the key's hash code (children's hash index is sorted by hash).
+        int low = first;
+        int high = last;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (buffer.getInt(hashEntry(middle)) < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        byte[] bytes = null;
+        for (int entry = low; entry < last && buffer.getInt(hashEntry(entry)) == hash; entry++) {
+            if (bytes == null) {
+                bytes = key.getBytes(StandardCharsets.UTF_8);
+            }
+            int child = buffer.getInt(hashEntry(entry) + 4);
+            int stringIndex = buffer.getInt(record(child));
+            int start = stringOffset(stringIndex);
+            if (stringOffset(stringIndex + 1) - start == bytes.length && matches(stringBytesPos + start, bytes)) {
+                return child;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compare bytes of buffer with a given key.
+     *
+     * @param position Position within buffer.
+     * @param key      Bytes to compare with.
+     * @return {@code true} if buffer holds <i>key</i> at <i>position</i>.
+     */
+    private boolean matches(int position, byte[] key) {
+        for (int index = 0; index < key.length; index++) {
+            if (buffer.get(position + index) != key[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param stringIndex Index of pooled string (or number of strings, for the end offset of the last string).
+     * @return Offset of string within string pool.
+     */
+    private int stringOffset(int stringIndex) {
+        return buffer.getInt(stringOffsetsPos + stringIndex * Integer.BYTES);
+    }
+
+    /**
+     * @param position Position within hash index (a node index).
+     * @return Position of hash index entry within buffer.
+     */
+    private int hashEntry(int position) {
+        return hashIndexPos + position * HASH_ENTRY_SIZE;
+    }
+
+    /**
+     * @param index Index of node.
+     * @return Position of node's record within buffer.
+     */
+    private int record(int index) {
+        return nodeTablePos + index * NODE_SIZE;
+    }
+}
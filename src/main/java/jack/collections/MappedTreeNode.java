@@ -0,0 +1,102 @@
+package jack.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only view of a single node of a {@link MappedTree}. Views are created on demand and hold no state other than
+ * the node's position; data is decoded on each call to {@link #getData()}.
+ *
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public final class MappedTreeNode<D> {
+
+    /**
+     * Tree this node belongs to.
+     */
+    private final MappedTree<D> tree;
+
+    /**
+     * Index of node within tree's node table.
+     */
+    private final int index;
+
+    /**
+     * Class constructor.
+     *
+     * @param tree  Tree this node belongs to.
+     * @param index Index of node.
+     */
+    MappedTreeNode(MappedTree<D> tree, int index) {
+        this.tree = tree;
+        this.index = index;
+    }
+
+    /**
+     * @return Key of this node, or {@code null} for the root.
+     */
+    public String getKey() {
+        return tree.key(index);
+    }
+
+    /**
+     * @return Return associated data. May be {@code null}.
+     */
+    public D getData() {
+        return tree.data(index);
+    }
+
+    /**
+     * Fetch node based on given <i>key</i>.
+     *
+     * @param key Key of node.
+     * @return Node matching given <i>key</i> or {@code null} if no such key exists.
+     */
+    public MappedTreeNode<D> getNode(String key) {
+        int child = key == null ? -1 : tree.findChild(index, key);
+        return child >= 0 ? new MappedTreeNode<>(tree, child) : null;
+    }
+
+    /**
+     * Fetch node given a path.
+     *
+     * @param path Path (set of keys) to target node.
+     * @return Node matching given <i>path</i> or {@code null} if no such node exists.
+     */
+    public MappedTreeNode<D> getNode(String... path) {
+        if (path.length == 0) {
+            throw new IllegalArgumentException("Path requires to have at least one key.");
+        }
+
+        int current = index;
+        for (int depth = 0; current >= 0 && depth < path.length; depth++) {
+            current = path[depth] == null ? -1 : tree.findChild(current, path[depth]);
+        }
+        return current >= 0 ? new MappedTreeNode<>(tree, current) : null;
+    }
+
+    /**
+     * @return Number of children of this node.
+     */
+    public int getChildCount() {
+        return tree.childCount(index);
+    }
+
+    /**
+     * @return List of children's node data. Will exclude {@code null} values.
+     */
+    public List<D> getChildrenData() {
+        int first = tree.firstChild(index);
+        int count = tree.childCount(index);
+        List<D> result = new ArrayList<>(count);
+        for (int child = first; child < first + count; child++) {
+            D data = tree.data(child);
+            if (data != null) {
+                result.add(data);
+            }
+        }
+        return result;
+    }
+}
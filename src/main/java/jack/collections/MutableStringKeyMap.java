@@ -4,7 +4,6 @@ import jack.utils.Asserts;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of {@link ReadOnlyMap} that also supports adding new values to the model.<p>
@@ -50,7 +49,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * </pre>
  *
  * <h2>Key case-insensitivity</h2>
- * The key is case-insensitive, which means that {@code key} and {@code KEY} are considered the same.
+ * The key is case-insensitive, which means that {@code key} and {@code KEY} are considered the same. Keys are compared
+ * character by character, regardless of the default locale (e.g., <i>title</i> and <i>TITLE</i> match even under a
+ * Turkish locale). Lookups neither convert nor copy the key.
  *
  * <pre>
  *     MutableStringKeyMap map = new MutableStringKeyMap();
@@ -62,6 +63,11 @@ import java.util.concurrent.ConcurrentHashMap;
  *     Object o2 = map.get("KEY");
  * </pre>
  *
+ * <h2>Primitive values</h2>
+ * Values added via {@link #putInt(String, int)}, {@link #putLong(String, long)}, {@link #putDouble(String, double)} or
+ * {@link #putBoolean(String, boolean)} are stored unboxed. Primitive accessors (e.g., {@link #getAsLong(String)}) read
+ * them without creating wrapper objects, while {@link #get(String)} and {@link #getState()} box them on demand.
+ *
  * @author Guy Raz Nir
  * @since 2024/01/01
  */
@@ -70,7 +76,7 @@ public class MutableStringKeyMap implements ReadOnlyMap<String> {
     /**
      * The actual model holding all the data.
      */
-    private final Map<String, Object> map = new ConcurrentHashMap<>();
+    private final CaseInsensitiveHashTable table = new CaseInsensitiveHashTable();
 
     /**
      * Class constructor.
@@ -93,10 +99,42 @@ public class MutableStringKeyMap implements ReadOnlyMap<String> {
     }
 
     /**
-     * @return A copy of the internal state. Changing the returned state may affect the internal state.
+     * Return a copy of the current state. Keys are reported in their normalized form (see
+     * {@link #normalizeKey(String)}). Changing the returned map does not affect this map, and vice versa.<p>
+     * Copying takes time proportional to the number of keys. To read a consistent view of this map without copying,
+     * use {@link #snapshot()}.
+     *
+     * @return A copy of the internal state.
      */
     public Map<String, Object> getState() {
-        return new HashMap<>(map);
+        return new HashMap<>(table.snapshot().asMap());
+    }
+
+    /**
+     * <p>Take an immutable snapshot of this map, in constant time.
+     * </p>
+     * The storage of this map is persistent: each change copies only the small part of the storage it affects (i.e.,
+     * O(log n)), and shares the rest with previous states. A snapshot is therefore just the current state, taken
+     * without copying, and cheap to take frequently (e.g., per request). For read-mostly data that rarely changes, see
+     * {@link #freeze()}.
+     *
+     * @return Immutable snapshot of this map.
+     */
+    public ReadOnlyMap<String> snapshot() {
+        return table.snapshot();
+    }
+
+    /**
+     * Create an immutable snapshot of this map, optimized for lookups. The snapshot is indexed by a minimal perfect
+     * hash, so each lookup inspects a single entry, without probing or synchronization. It can be freely shared among
+     * threads, and is not affected by later changes to this map.<p>
+     * Creating a snapshot takes time proportional to the number of keys. It is intended for read-mostly data (e.g.,
+     * configuration), re-created in bulk whenever the data changes.
+     *
+     * @return Immutable snapshot of this map.
+     */
+    public ReadOnlyMap<String> freeze() {
+        return table.freeze();
     }
 
     /**
@@ -109,7 +147,55 @@ public class MutableStringKeyMap implements ReadOnlyMap<String> {
      */
     public boolean add(String key, Object value) throws IllegalArgumentException {
         Asserts.notNull(value, "Value cannot be null.");
-        return this.map.put(normalizeKey(key), value) == null;
+        return this.table.put(normalizeKey(key), value) == null;
+    }
+
+    /**
+     * Add or update a key associated with an {@code int} value, stored unboxed.
+     *
+     * @param key   Key identifying the value.
+     * @param value Value to store.
+     * @return {@code true} if the value was added, {@code false} if updated (previously existed).
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public boolean putInt(String key, int value) throws IllegalArgumentException {
+        return table.putPrimitive(normalizeKey(key), CaseInsensitiveHashTable.INT, value);
+    }
+
+    /**
+     * Add or update a key associated with a {@code long} value, stored unboxed.
+     *
+     * @param key   Key identifying the value.
+     * @param value Value to store.
+     * @return {@code true} if the value was added, {@code false} if updated (previously existed).
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public boolean putLong(String key, long value) throws IllegalArgumentException {
+        return table.putPrimitive(normalizeKey(key), CaseInsensitiveHashTable.LONG, value);
+    }
+
+    /**
+     * Add or update a key associated with a {@code double} value, stored unboxed.
+     *
+     * @param key   Key identifying the value.
+     * @param value Value to store.
+     * @return {@code true} if the value was added, {@code false} if updated (previously existed).
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public boolean putDouble(String key, double value) throws IllegalArgumentException {
+        return table.putPrimitive(normalizeKey(key), CaseInsensitiveHashTable.DOUBLE, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Add or update a key associated with a {@code boolean} value, stored unboxed.
+     *
+     * @param key   Key identifying the value.
+     * @param value Value to store.
+     * @return {@code true} if the value was added, {@code false} if updated (previously existed).
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public boolean putBoolean(String key, boolean value) throws IllegalArgumentException {
+        return table.putPrimitive(normalizeKey(key), CaseInsensitiveHashTable.BOOLEAN, value ? 1L : 0L);
     }
 
     /**
@@ -121,7 +207,7 @@ public class MutableStringKeyMap implements ReadOnlyMap<String> {
      */
     @Override
     public boolean containsKey(String key) throws IllegalArgumentException {
-        return map.containsKey(normalizeKey(key));
+        return table.snapshot().containsKey(key);
     }
 
     /**
@@ -136,7 +222,8 @@ public class MutableStringKeyMap implements ReadOnlyMap<String> {
      */
     @Override
     public <T> T get(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        Object value = map.get(normalizeKey(key));
+        Asserts.notNull(key, "Key cannot be null.");
+        Object value = table.get(key);
         if (value == null) {
             throw new MissingKeyException("Unknown key: " + key);
         }
@@ -165,32 +252,35 @@ public class MutableStringKeyMap implements ReadOnlyMap<String> {
 
     @Override
     public int getAsInteger(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        return asNumber(key, Integer.TYPE).intValue();
+        return table.snapshot().getAsInteger(key);
     }
 
     @Override
     public int getAsInteger(String key, int defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        return asNumber(key, Integer.TYPE, defaultValue).intValue();
+        try {
+            return getAsInteger(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
     }
 
     @Override
     public long getAsLong(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        return asNumber(key, Long.TYPE).longValue();
+        return table.snapshot().getAsLong(key);
     }
 
     @Override
     public long getAsLong(String key, long defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        return asNumber(key, Long.TYPE, defaultValue).longValue();
+        try {
+            return getAsLong(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
     }
 
     @Override
     public boolean getAsBoolean(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        Object obj = get(key);
-        try {
-            return (boolean) obj;
-        } catch (ClassCastException ex) {
-            throw new TypeMismatchException(Boolean.TYPE, obj.getClass(), ex);
-        }
+        return table.snapshot().getAsBoolean(key);
     }
 
     @Override
@@ -204,22 +294,30 @@ public class MutableStringKeyMap implements ReadOnlyMap<String> {
 
     @Override
     public float getAsFloat(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        return asNumber(key, Float.TYPE).floatValue();
+        return table.snapshot().getAsFloat(key);
     }
 
     @Override
     public float getAsFloat(String key, float defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        return asNumber(key, Float.TYPE, defaultValue).floatValue();
+        try {
+            return getAsFloat(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
     }
 
     @Override
     public double getAsDouble(String key) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        return asNumber(key, Double.TYPE).doubleValue();
+        return table.snapshot().getAsDouble(key);
     }
 
     @Override
     public double getAsDouble(String key, double defaultValue) throws MissingKeyException, TypeMismatchException, IllegalArgumentException {
-        return asNumber(key, Double.TYPE, defaultValue).doubleValue();
+        try {
+            return getAsDouble(key);
+        } catch (MissingKeyException ex) {
+            return defaultValue;
+        }
     }
 
     @Override
@@ -237,15 +335,17 @@ public class MutableStringKeyMap implements ReadOnlyMap<String> {
     }
 
     /**
-     * Return a normalized form of the key. In specific, convert string to lower-case.
+     * Return a normalized form of the key, as it is stored (and reported by {@link #getState()}). In specific, convert
+     * string to upper-case, regardless of the default locale. Lookups do not normalize keys; they compare them ignoring
+     * case.
      *
      * @param key Key to normalize.
-     * @return Normalized form of the key (converted to lower-case).
+     * @return Normalized form of the key (converted to upper-case).
      * @throws IllegalArgumentException If <i>key</i> is {@code null}.
      */
     protected String normalizeKey(String key) throws IllegalArgumentException {
         Asserts.notNull(key, "Key cannot be null.");
-        return key.toUpperCase();
+        return CaseInsensitiveStrings.toUpperCase(key);
     }
 
     /**
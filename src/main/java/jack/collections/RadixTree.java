@@ -0,0 +1,505 @@
+package jack.collections;
+
+import jack.utils.Asserts;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>A compressed radix tree (Patricia trie), mapping string keys to data.
+ * </p>
+ * <p>Unlike {@link Tree}, which holds a node per path segment, each edge of this tree is labeled with a string, and a
+ * chain of nodes with a single child is collapsed into a single edge. Children of a node are identified by the first
+ * character of their edge, kept in a sorted array and searched by binary search. Keys are not split into segments,
+ * so hierarchical keys (e.g., <i>a/b/c</i> configuration keys or URL routes) share storage of their common prefixes
+ * regardless of separators.
+ * </p>
+ * <p>Besides exact lookups, the tree supports {@link #longestPrefixMatch(String) longest-prefix match} (e.g., routing
+ * a URL to the most specific route) and {@link #prefixScan(String) prefix scans}, which iterate keys in lexicographic
+ * order.
+ * </p>
+ * Data of a key can be accessed via {@link Node#getData()} and {@link Node#setData(Object)}, like {@link TreeNode}.
+ * This model is not thread-safe, similarly to {@link Tree}.
+ *
+ * @param <D> Generic type of data.
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class RadixTree<D> {
+
+    /**
+     * Root node of the tree; its label is always empty.
+     */
+    private final Node<D> root = new Node<>("");
+
+    /**
+     * Number of keys in the tree.
+     */
+    private int size;
+
+    /**
+     * Class constructor.
+     */
+    public RadixTree() {
+    }
+
+    /**
+     * Associate data with a key, adding the key if it does not exist.
+     *
+     * @param key  Key to add.
+     * @param data Data to associate. May be {@code null}.
+     * @return Data previously associated with <i>key</i>, or {@code null} if key did not exist.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public D put(String key, D data) throws IllegalArgumentException {
+        Node<D> node = getOrCreateNode(key);
+        D previous = node.data;
+        node.data = data;
+        return previous;
+    }
+
+    /**
+     * Fetch data associated with a key.
+     *
+     * @param key Key to look by.
+     * @return Data associated with <i>key</i>, or {@code null} if key does not exist.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public D get(String key) throws IllegalArgumentException {
+        Node<D> node = getNode(key);
+        return node != null ? node.data : null;
+    }
+
+    /**
+     * Check if a given key exists in the tree.
+     *
+     * @param key Key to test.
+     * @return {@code true} if key exists, {@code false} if not.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public boolean containsKey(String key) throws IllegalArgumentException {
+        return getNode(key) != null;
+    }
+
+    /**
+     * Fetch the node of a key.
+     *
+     * @param key Key to look by.
+     * @return Node of <i>key</i>, or {@code null} if key does not exist.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public Node<D> getNode(String key) throws IllegalArgumentException {
+        Asserts.notNull(key, "Key cannot be null.");
+
+        Node<D> node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            node = node.child(key.charAt(offset));
+            if (node == null || !key.startsWith(node.label, offset)) {
+                return null;
+            }
+            offset += node.label.length();
+        }
+
+        return node.terminal ? node : null;
+    }
+
+    /**
+     * Fetch the node of a key, adding the key (with {@code null} data) if it does not exist.
+     *
+     * @param key Key to look by.
+     * @return Node of <i>key</i>.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public Node<D> getOrCreateNode(String key) throws IllegalArgumentException {
+        Asserts.notNull(key, "Key cannot be null.");
+
+        Node<D> node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            int index = node.indexOf(key.charAt(offset));
+            if (index < 0) {
+                // No edge starts with the next character -- add the rest of the key as a new leaf.
+                Node<D> leaf = new Node<>(key.substring(offset));
+                node.insert(-index - 1, leaf);
+                node = leaf;
+                break;
+            }
+
+            Node<D> child = node.children[index];
+            int common = commonPrefixLength(child.label, key, offset);
+            if (common < child.label.length()) {
+                // Key diverges (or ends) within the edge. Split the edge at the point of divergence.
+                Node<D> middle = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.insert(0, child);
+                node.children[index] = middle;
+                child = middle;
+            }
+            node = child;
+            offset += common;
+        }
+
+        if (!node.terminal) {
+            node.terminal = true;
+            size++;
+        }
+        return node;
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @param key Key to remove.
+     * @return {@code true} if key existed and is removed, {@code false} if key does not exist.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public boolean remove(String key) throws IllegalArgumentException {
+        Asserts.notNull(key, "Key cannot be null.");
+
+        Node<D> grandparent = null;
+        Node<D> parent = null;
+        Node<D> node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node<D> child = node.child(key.charAt(offset));
+            if (child == null || !key.startsWith(child.label, offset)) {
+                return false;
+            }
+            grandparent = parent;
+            parent = node;
+            node = child;
+            offset += child.label.length();
+        }
+        if (!node.terminal) {
+            return false;
+        }
+
+        node.terminal = false;
+        node.data = null;
+        size--;
+
+        if (parent == null) {
+            // Root node (empty key) -- it is never removed.
+            return true;
+        }
+
+        // Keep the tree compressed: remove a node left with no children, and collapse a node left with a single
+        // child into that child.
+        if (node.children.length == 0) {
+            parent.delete(parent.indexOf(node.label.charAt(0)));
+            if (grandparent != null && !parent.terminal && parent.children.length == 1) {
+                collapse(grandparent, parent);
+            }
+        } else if (node.children.length == 1) {
+            collapse(parent, node);
+        }
+        return true;
+    }
+
+    /**
+     * Find the longest key that is a prefix of a given string (e.g., the most specific route of a URL).
+     *
+     * @param str String to match.
+     * @return Pair of longest matching key and its data, or {@code null} if no key is a prefix of <i>str</i>.
+     * @throws IllegalArgumentException If <i>str</i> is {@code null}.
+     */
+    public Pair<String, D> longestPrefixMatch(String str) throws IllegalArgumentException {
+        Asserts.notNull(str, "String cannot be null.");
+
+        Node<D> match = root.terminal ? root : null;
+        int matchLength = 0;
+
+        Node<D> node = root;
+        int offset = 0;
+        while (offset < str.length()) {
+            node = node.child(str.charAt(offset));
+            if (node == null || !str.startsWith(node.label, offset)) {
+                break;
+            }
+            offset += node.label.length();
+            if (node.terminal) {
+                match = node;
+                matchLength = offset;
+            }
+        }
+
+        return match != null ? Pair.of(str.substring(0, matchLength), match.data) : null;
+    }
+
+    /**
+     * Iterate over all keys starting with a given prefix, in lexicographic order. The tree must not be changed while
+     * iterating.
+     *
+     * @param prefix Prefix to look by. An empty prefix iterates over all keys.
+     * @return Iterator over pairs of key and data.
+     * @throws IllegalArgumentException If <i>prefix</i> is {@code null}.
+     */
+    public Iterator<Pair<String, D>> prefixScan(String prefix) throws IllegalArgumentException {
+        Asserts.notNull(prefix, "Prefix cannot be null.");
+
+        // Find the topmost node whose key starts with the prefix. The prefix may end in the middle of its edge.
+        Node<D> node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            node = node.child(prefix.charAt(offset));
+            if (node == null) {
+                return new PrefixIterator<>(null, null);
+            }
+            int common = commonPrefixLength(node.label, prefix, offset);
+            if (offset + common < prefix.length() && common < node.label.length()) {
+                // Prefix diverges within the edge.
+                return new PrefixIterator<>(null, null);
+            }
+            offset += node.label.length();
+        }
+
+        String key = node == root ? "" : prefix.substring(0, offset - node.label.length()) + node.label;
+        return new PrefixIterator<>(node, key);
+    }
+
+    /**
+     * @return Number of keys in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if the tree holds no keys.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Collapse a non-terminal node having a single child into that child, by prepending the node's label to the
+     * child's label.
+     *
+     * @param parent Parent of <i>node</i>.
+     * @param node   Node to collapse.
+     */
+    private static <D> void collapse(Node<D> parent, Node<D> node) {
+        Node<D> child = node.children[0];
+        child.label = node.label + child.label;
+        parent.children[parent.indexOf(node.label.charAt(0))] = child;
+    }
+
+    /**
+     * Calculate the length of the common prefix of an edge label and a key.
+     *
+     * @param label  Edge label.
+     * @param key    Key.
+     * @param offset Offset within key to compare label with.
+     * @return Number of leading characters of <i>label</i> matching <i>key</i> at <i>offset</i>.
+     */
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int limit = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < limit && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * A node of the tree. A node represents a key only if it is terminal; other nodes merely connect edges.
+     *
+     * @param <D> Generic type of data.
+     */
+    public static final class Node<D> {
+
+        /**
+         * Used by nodes with no children.
+         */
+        private static final char[] NO_EDGES = new char[0];
+
+        /**
+         * Used by nodes with no children. Being empty, it is shared among trees of any data type.
+         */
+        private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+        /**
+         * Label of the edge leading to this node.
+         */
+        private String label;
+
+        /**
+         * First character of each child's label, sorted.
+         */
+        private char[] edges = NO_EDGES;
+
+        /**
+         * Children, in the same order as {@link #edges}.
+         */
+        private Node<D>[] children = emptyChildren();
+
+        /**
+         * Indicates this node represents a key.
+         */
+        private boolean terminal;
+
+        /**
+         * Data associated with this node.
+         */
+        private D data;
+
+        /**
+         * Class constructor.
+         *
+         * @param label Label of the edge leading to this node.
+         */
+        private Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * @return Return associated data. May be {@code null}.
+         */
+        public D getData() {
+            return data;
+        }
+
+        /**
+         * Associate new data with this node. Has no effect on the tree if the key of this node was removed.
+         *
+         * @param data New data to associate. May be {@code null}.
+         */
+        public void setData(D data) {
+            this.data = data;
+        }
+
+        /**
+         * Find a child by the first character of its label.
+         *
+         * @param c Character to look by.
+         * @return Child or {@code null} if no child's label starts with <i>c</i>.
+         */
+        private Node<D> child(char c) {
+            int index = indexOf(c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        /**
+         * Find a child by the first character of its label.
+         *
+         * @param c Character to look by.
+         * @return Index of child, or {@code -(insertion point) - 1} if no child's label starts with <i>c</i>.
+         */
+        private int indexOf(char c) {
+            return Arrays.binarySearch(edges, c);
+        }
+
+        /**
+         * Insert a child.
+         *
+         * @param index Index to insert at, keeping children sorted.
+         * @param child Child to insert.
+         */
+        private void insert(int index, Node<D> child) {
+            int count = edges.length;
+            char[] newEdges = new char[count + 1];
+            Node<D>[] newChildren = Arrays.copyOf(children, count + 1);
+            System.arraycopy(edges, 0, newEdges, 0, index);
+            System.arraycopy(edges, index, newEdges, index + 1, count - index);
+            System.arraycopy(children, index, newChildren, index + 1, count - index);
+            newEdges[index] = child.label.charAt(0);
+            newChildren[index] = child;
+            edges = newEdges;
+            children = newChildren;
+        }
+
+        /**
+         * Delete a child.
+         *
+         * @param index Index of child.
+         */
+        private void delete(int index) {
+            int count = edges.length;
+            char[] newEdges = count == 1 ? NO_EDGES : new char[count - 1];
+            Node<D>[] newChildren = Arrays.copyOf(children, count - 1);
+            System.arraycopy(edges, 0, newEdges, 0, index);
+            System.arraycopy(edges, index + 1, newEdges, index, count - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, count - index - 1);
+            edges = newEdges;
+            children = newChildren;
+        }
+
+        @SuppressWarnings("unchecked") // An empty array holds no element of the wrong type.
+        private static <D> Node<D>[] emptyChildren() {
+            return (Node<D>[]) NO_CHILDREN;
+        }
+    }
+
+    /**
+     * Iterates, depth-first and in lexicographic order, over all keys of a subtree. Uses an explicit stack rather than
+     * recursion, so deep trees cannot overflow the call stack.
+     *
+     * @param <D> Generic type of data.
+     */
+    private static final class PrefixIterator<D> implements Iterator<Pair<String, D>> {
+
+        /**
+         * Nodes pending a visit, along with their full keys.
+         */
+        private final Deque<Node<D>> nodes = new ArrayDeque<>();
+        private final Deque<String> keys = new ArrayDeque<>();
+
+        /**
+         * Next pair to return, or {@code null} if iteration is over.
+         */
+        private Pair<String, D> next;
+
+        /**
+         * Class constructor.
+         *
+         * @param node Top of subtree, or {@code null} for an empty iteration.
+         * @param key  Full key of <i>node</i>.
+         */
+        private PrefixIterator(Node<D> node, String key) {
+            if (node != null) {
+                nodes.push(node);
+                keys.push(key);
+            }
+            next = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Pair<String, D> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Pair<String, D> current = next;
+            next = advance();
+            return current;
+        }
+
+        /**
+         * @return Next terminal node's pair, or {@code null} if there are no more keys.
+         */
+        private Pair<String, D> advance() {
+            while (!nodes.isEmpty()) {
+                Node<D> node = nodes.pop();
+                String key = keys.pop();
+
+                // Push children in reverse order, so that the smallest is visited first.
+                for (int index = node.children.length - 1; index >= 0; index--) {
+                    nodes.push(node.children[index]);
+                    keys.push(key + node.children[index].label);
+                }
+                if (node.terminal) {
+                    return Pair.of(key, node.data);
+                }
+            }
+            return null;
+        }
+    }
+}
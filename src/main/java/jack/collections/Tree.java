@@ -1,5 +1,13 @@
 package jack.collections;
 
+import jack.utils.Asserts;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
 /**
  * <p>Implementation of tree data structure (parent with multiple children).
  * </p>
@@ -20,12 +28,27 @@ public class Tree<K, D> {
     /**
      * Root node of the tree.
      */
-    private final TreeNode<K, D> rootNode = new TreeNode<>();
+    private final TreeNode<K, D> rootNode;
 
     /**
      * Class constructor.
      */
     public Tree() {
+        this.rootNode = new TreeNode<>();
+    }
+
+    /**
+     * Construct a tree that maintains the aggregate of each subtree (e.g., sum of data), readable in constant time via
+     * {@link TreeNode#getAggregate()}. Aggregates are updated whenever data is set ({@link TreeNode#setData(Object)})
+     * or children are added or removed. Changes made within data objects themselves are not tracked; call
+     * {@code setData} to have them reflected.
+     *
+     * @param aggregation Aggregation to maintain.
+     * @throws IllegalArgumentException If <i>aggregation</i> is {@code null}.
+     */
+    public Tree(TreeAggregation<D> aggregation) throws IllegalArgumentException {
+        Asserts.notNull(aggregation, "Aggregation cannot be null.");
+        this.rootNode = new AggregatingTreeNode<>(aggregation, null, null);
     }
 
     /**
@@ -58,4 +81,53 @@ public class Tree<K, D> {
         return rootNode;
     }
 
+    /**
+     * Iterate over all nodes of this tree (including the root), depth-first (pre-order).
+     *
+     * @return Iterator over nodes.
+     * @see TreeNode#depthFirstIterator()
+     */
+    public Iterator<TreeNode<K, D>> depthFirstIterator() {
+        return rootNode.depthFirstIterator();
+    }
+
+    /**
+     * Iterate over all nodes of this tree (including the root), breadth-first.
+     *
+     * @return Iterator over nodes.
+     * @see TreeNode#breadthFirstIterator()
+     */
+    public Iterator<TreeNode<K, D>> breadthFirstIterator() {
+        return rootNode.breadthFirstIterator();
+    }
+
+    /**
+     * Visit all nodes of this tree (including the root, with an empty path), depth-first, along with their paths.
+     *
+     * @param action Action receiving the path to each node and the node itself.
+     * @see TreeNode#forEachNode(BiConsumer)
+     */
+    public void forEachNode(BiConsumer<? super List<K>, ? super TreeNode<K, D>> action) {
+        rootNode.forEachNode(action);
+    }
+
+    /**
+     * @return A splittable traversal of all nodes of this tree (including the root).
+     * @see TreeNode#spliterator()
+     */
+    public Spliterator<TreeNode<K, D>> spliterator() {
+        return rootNode.spliterator();
+    }
+
+    /**
+     * Stream all nodes of this tree (including the root), in no particular order. Use {@code stream().parallel()}
+     * to process a large tree in parallel.
+     *
+     * @return Stream of nodes.
+     * @see TreeNode#stream()
+     */
+    public Stream<TreeNode<K, D>> stream() {
+        return rootNode.stream();
+    }
+
 }
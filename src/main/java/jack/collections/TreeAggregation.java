@@ -0,0 +1,134 @@
+package jack.collections;
+
+import jack.utils.Asserts;
+
+import java.util.function.BinaryOperator;
+
+/**
+ * <p>Defines how data of a subtree is aggregated (e.g., summed), so that a {@link Tree} can maintain the aggregate of
+ * each subtree as the tree changes (see {@link Tree#Tree(TreeAggregation)}).
+ * </p>
+ * The aggregation must form a <i>monoid</i>: {@link #combine(Object, Object)} must be associative, and
+ * {@link #identity()} must be its neutral element. The aggregate of a node combines its own data (the identity, if it
+ * has none) with the aggregates of its children.
+ * <p>
+ * An aggregation may also be <i>invertible</i> (see {@link #isInvertible()}), i.e., form a commutative group, such as
+ * counts and sums: {@link #subtract(Object, Object)} removes a part previously combined into an aggregate. A change is
+ * then applied to each ancestor in constant time, rather than by combining the aggregates of all of its children
+ * again. Note that floating-point sums may accumulate rounding errors when subtracted repeatedly.
+ * </p>
+ * <p>
+ * Example -- count items per category, where each node holds the number of items directly under it:
+ * <pre>
+ *     Tree&lt;String, Integer&gt; categories = new Tree&lt;&gt;(TreeAggregation.of(0, Integer::sum, (a, b) -&gt; a - b));
+ *     categories.getOrCreateNode("books", "fiction").setData(12);
+ *     categories.getOrCreateNode("books", "poetry").setData(3);
+ *
+ *     // 15
+ *     int books = categories.getNode("books").getAggregate();
+ * </pre>
+ *
+ * @param <D> Generic type of data.
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public interface TreeAggregation<D> {
+
+    /**
+     * @return Neutral element of aggregation (e.g., 0 for sums). Used for nodes without data.
+     */
+    D identity();
+
+    /**
+     * Combine two aggregates.
+     *
+     * @param left  First aggregate.
+     * @param right Second aggregate.
+     * @return Combined aggregate.
+     */
+    D combine(D left, D right);
+
+    /**
+     * @return {@code true} if {@link #subtract(Object, Object)} is supported, {@code false} otherwise. The default
+     * implementation returns {@code false}.
+     */
+    default boolean isInvertible() {
+        return false;
+    }
+
+    /**
+     * Remove a part from an aggregate, i.e.: the inverse of {@link #combine(Object, Object)}. For any <i>a</i> and
+     * <i>b</i>, {@code subtract(combine(a, b), b)} must equal <i>a</i>, and {@link #combine(Object, Object)} must be
+     * commutative. The default implementation is not supported.
+     *
+     * @param aggregate Aggregate.
+     * @param part      Part previously combined into <i>aggregate</i>.
+     * @return Aggregate without <i>part</i>.
+     * @throws UnsupportedOperationException If aggregation is not {@link #isInvertible() invertible}.
+     */
+    default D subtract(D aggregate, D part) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Aggregation is not invertible.");
+    }
+
+    /**
+     * Create an aggregation from an identity and a combining function.
+     *
+     * @param identity Neutral element of aggregation.
+     * @param combiner Associative function combining two aggregates.
+     * @param <D>      Generic type of data.
+     * @return A new aggregation.
+     * @throws IllegalArgumentException If <i>combiner</i> is {@code null}.
+     */
+    static <D> TreeAggregation<D> of(D identity, BinaryOperator<D> combiner) throws IllegalArgumentException {
+        Asserts.notNull(combiner, "Combiner cannot be null.");
+        return new TreeAggregation<>() {
+            @Override
+            public D identity() {
+                return identity;
+            }
+
+            @Override
+            public D combine(D left, D right) {
+                return combiner.apply(left, right);
+            }
+        };
+    }
+
+    /**
+     * Create an invertible aggregation from an identity, a combining function and its inverse (e.g., for sums:
+     * {@code of(0, Integer::sum, (a, b) -> a - b)}).
+     *
+     * @param identity   Neutral element of aggregation.
+     * @param combiner   Associative and commutative function combining two aggregates.
+     * @param subtractor Function removing a part (second argument) from an aggregate (first argument).
+     * @param <D>        Generic type of data.
+     * @return A new aggregation.
+     * @throws IllegalArgumentException If either <i>combiner</i> or <i>subtractor</i> is {@code null}.
+     */
+    static <D> TreeAggregation<D> of(D identity, BinaryOperator<D> combiner, BinaryOperator<D> subtractor)
+            throws IllegalArgumentException {
+        Asserts.notNull(combiner, "Combiner cannot be null.");
+        Asserts.notNull(subtractor, "Subtractor cannot be null.");
+        return new TreeAggregation<>() {
+            @Override
+            public D identity() {
+                return identity;
+            }
+
+            @Override
+            public D combine(D left, D right) {
+                return combiner.apply(left, right);
+            }
+
+            @Override
+            public boolean isInvertible() {
+                return true;
+            }
+
+            @Override
+            public D subtract(D aggregate, D part) {
+                return subtractor.apply(aggregate, part);
+            }
+        };
+    }
+}
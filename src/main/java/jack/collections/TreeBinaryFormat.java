@@ -0,0 +1,244 @@
+package jack.collections;
+
+import jack.utils.Asserts;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * <p>A compact binary format for trees with string keys, which can be loaded instantly by memory-mapping (see
+ * {@link MappedTree}).
+ * </p>
+ * A file consists of the following sections (all numbers are big-endian):
+ * <ol>
+ *     <li><i>Header</i> - magic number, version, number of nodes, number of pooled strings, and the offset of each of
+ *     the following sections.</li>
+ *     <li><i>String pool</i> - each distinct key is stored once, in UTF-8. An offsets table (one entry per string,
+ *     plus a final end offset) locates each string.</li>
+ *     <li><i>Node table</i> - a fixed-size record per node: key (string pool index; -1 for the root), index of first
+ *     child, number of children, and offset of data (-1 if node has no data). Nodes are laid out breadth-first, so
+ *     the children of each node are contiguous, in their insertion order. The root is the first node.</li>
+ *     <li><i>Hash index</i> - an entry per node: hash code of key ({@link String#hashCode()}) and node index. Entries
+ *     of the children of each node are sorted by hash code, so a child is found by binary search. The root's entry
+ *     is unused.</li>
+ *     <li><i>Data</i> - encoded data of nodes (see {@link TreeDataCodec}), each prefixed by its length.</li>
+ * </ol>
+ * Offsets are 32-bit, so a file is limited to 2GB.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public final class TreeBinaryFormat {
+
+    /**
+     * Magic number identifying the format (<i>JTRE</i>).
+     */
+    static final int MAGIC = 0x4A545245;
+
+    /**
+     * Version of format.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * Size of header, in bytes.
+     */
+    static final int HEADER_SIZE = 36;
+
+    /**
+     * Size of a node record, in bytes.
+     */
+    static final int NODE_SIZE = 16;
+
+    /**
+     * Size of a hash index entry, in bytes.
+     */
+    static final int HASH_ENTRY_SIZE = 8;
+
+    //
+    // Offsets of fields within header.
+    //
+    static final int NODE_COUNT_OFFSET = 8;
+    static final int STRING_COUNT_OFFSET = 12;
+    static final int STRING_OFFSETS_OFFSET = 16;
+    static final int STRING_BYTES_OFFSET = 20;
+    static final int NODE_TABLE_OFFSET = 24;
+    static final int DATA_OFFSET = 28;
+    static final int HASH_INDEX_OFFSET = 32;
+
+    /**
+     * Class constructor. This is a utility class, no instances are allowed.
+     */
+    private TreeBinaryFormat() {
+    }
+
+    /**
+     * Write a tree to a file.
+     *
+     * @param tree  Tree to write.
+     * @param codec Codec to encode nodes' data with.
+     * @param file  File to write to. Replaced if it exists.
+     * @param <D>   Generic type of data.
+     * @throws IllegalArgumentException If any argument is {@code null}, or tree contains a {@code null} key.
+     * @throws IOException              If file could not be written.
+     */
+    public static <D> void write(Tree<String, D> tree, TreeDataCodec<D> codec, Path file)
+            throws IllegalArgumentException, IOException {
+        Asserts.notNull(file, "File cannot be null.");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(tree, codec, out);
+        }
+    }
+
+    /**
+     * Write a tree to a stream.
+     *
+     * @param tree  Tree to write.
+     * @param codec Codec to encode nodes' data with.
+     * @param out   Stream to write to. Not closed by this method.
+     * @param <D>   Generic type of data.
+     * @throws IllegalArgumentException If any argument is {@code null}, or tree contains a {@code null} key.
+     * @throws IOException              If stream fails to write, or tree exceeds the size limit of the format.
+     */
+    public static <D> void write(Tree<String, D> tree, TreeDataCodec<D> codec, OutputStream out)
+            throws IllegalArgumentException, IOException {
+        Asserts.notNull(tree, "Tree cannot be null.");
+        Asserts.notNull(codec, "Codec cannot be null.");
+        Asserts.notNull(out, "Output stream cannot be null.");
+
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        IntArray stringOffsets = new IntArray();
+        ByteArrayOutputStream nodes = new ByteArrayOutputStream();
+        DataOutputStream nodeTable = new DataOutputStream(nodes);
+        ByteArrayOutputStream hashes = new ByteArrayOutputStream();
+        DataOutputStream hashIndex = new DataOutputStream(hashes);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        DataOutputStream dataSection = new DataOutputStream(data);
+
+        // Entry of the root, which is no node's child.
+        hashIndex.writeInt(0);
+        hashIndex.writeInt(0);
+
+        // Lay nodes out breadth-first: children of each node are queued together, so they get consecutive indexes.
+        Deque<TreeNode<String, D>> queue = new ArrayDeque<>();
+        Deque<String> keys = new ArrayDeque<>();
+        queue.add(tree.getRoot());
+        IntArray childHashes = new IntArray();
+        int nodeCount = 0;
+        int nextIndex = 1;
+        while (!queue.isEmpty()) {
+            TreeNode<String, D> node = queue.poll();
+            String key = nodeCount == 0 ? null : keys.poll();
+            nodeCount++;
+
+            int keyIndex = -1;
+            if (key != null) {
+                Integer index = stringIndexes.get(key);
+                if (index == null) {
+                    index = stringIndexes.size();
+                    stringIndexes.put(key, index);
+                    stringOffsets.add(strings.size());
+                    strings.writeBytes(key.getBytes(StandardCharsets.UTF_8));
+                }
+                keyIndex = index;
+            }
+
+            int firstChild = nextIndex;
+            int childCount = 0;
+            for (Iterator<Map.Entry<String, TreeNode<String, D>>> it = node.childIterator(); it.hasNext(); ) {
+                Map.Entry<String, TreeNode<String, D>> child = it.next();
+                Asserts.notNull(child.getKey(), "Tree keys cannot be null.");
+                keys.add(child.getKey());
+                queue.add(child.getValue());
+                childHashes.add(child.getKey().hashCode());
+                childCount++;
+            }
+            nextIndex += childCount;
+
+            // Index children by hash code: pack each as (hash, index) so sorting orders by (signed) hash code.
+            long[] entries = new long[childCount];
+            for (int child = 0; child < childCount; child++) {
+                entries[child] = ((long) childHashes.values[child] << 32) | (firstChild + child);
+            }
+            Arrays.sort(entries);
+            for (long entry : entries) {
+                hashIndex.writeInt((int) (entry >> 32));
+                hashIndex.writeInt((int) entry);
+            }
+            childHashes.size = 0;
+
+            int dataOffset = -1;
+            if (node.getData() != null) {
+                byte[] encoded = codec.encode(node.getData());
+                dataOffset = data.size();
+                dataSection.writeInt(encoded.length);
+                dataSection.write(encoded);
+            }
+
+            nodeTable.writeInt(keyIndex);
+            nodeTable.writeInt(firstChild);
+            nodeTable.writeInt(childCount);
+            nodeTable.writeInt(dataOffset);
+        }
+        stringOffsets.add(strings.size());
+
+        long stringOffsetsPos = HEADER_SIZE;
+        long stringBytesPos = stringOffsetsPos + (long) stringOffsets.size * Integer.BYTES;
+        long nodeTablePos = stringBytesPos + strings.size();
+        long hashIndexPos = nodeTablePos + nodes.size();
+        long dataPos = hashIndexPos + hashes.size();
+        if (dataPos + data.size() > Integer.MAX_VALUE) {
+            throw new IOException("Tree exceeds maximal file size of binary format.");
+        }
+
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(VERSION);
+        dataOut.writeInt(nodeCount);
+        dataOut.writeInt(stringIndexes.size());
+        dataOut.writeInt((int) stringOffsetsPos);
+        dataOut.writeInt((int) stringBytesPos);
+        dataOut.writeInt((int) nodeTablePos);
+        dataOut.writeInt((int) dataPos);
+        dataOut.writeInt((int) hashIndexPos);
+        for (int index = 0; index < stringOffsets.size; index++) {
+            dataOut.writeInt(stringOffsets.values[index]);
+        }
+        strings.writeTo(dataOut);
+        nodes.writeTo(dataOut);
+        hashes.writeTo(dataOut);
+        data.writeTo(dataOut);
+        dataOut.flush();
+    }
+
+    /**
+     * A growable array of primitive integers.
+     */
+    private static final class IntArray {
+
+        private int[] values = new int[64];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                int[] grown = new int[size * 2];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            values[size++] = value;
+        }
+    }
+}
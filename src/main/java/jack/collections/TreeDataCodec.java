@@ -0,0 +1,83 @@
+package jack.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>Converts data of tree nodes to and from bytes, for the binary tree format (see {@link TreeBinaryFormat}).
+ * </p>
+ * Codecs never receive {@code null} data; nodes without data are recorded by the format itself.
+ *
+ * @param <D> Generic type of data.
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public interface TreeDataCodec<D> {
+
+    /**
+     * Encode data into bytes.
+     *
+     * @param data Data to encode; never {@code null}.
+     * @return Encoded form of data.
+     */
+    byte[] encode(D data);
+
+    /**
+     * Decode data.
+     *
+     * @param buffer Buffer holding exactly the encoded form of data, from its position to its limit.
+     * @return Decoded data.
+     */
+    D decode(ByteBuffer buffer);
+
+    /**
+     * @return A codec storing strings in UTF-8.
+     */
+    static TreeDataCodec<String> strings() {
+        return new TreeDataCodec<>() {
+            @Override
+            public byte[] encode(String data) {
+                return data.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                return StandardCharsets.UTF_8.decode(buffer).toString();
+            }
+        };
+    }
+
+    /**
+     * @return A codec storing integers in 4 bytes.
+     */
+    static TreeDataCodec<Integer> integers() {
+        return new TreeDataCodec<>() {
+            @Override
+            public byte[] encode(Integer data) {
+                return ByteBuffer.allocate(Integer.BYTES).putInt(data).array();
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt(buffer.position());
+            }
+        };
+    }
+
+    /**
+     * @return A codec storing longs in 8 bytes.
+     */
+    static TreeDataCodec<Long> longs() {
+        return new TreeDataCodec<>() {
+            @Override
+            public byte[] encode(Long data) {
+                return ByteBuffer.allocate(Long.BYTES).putLong(data).array();
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong(buffer.position());
+            }
+        };
+    }
+}
@@ -1,13 +1,30 @@
 package jack.collections;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Represents a single node in the tree. Each such node contains associated data (optional) and children (optional).
+ * <p>Represents a single node in the tree. Each such node contains associated data (optional) and children (optional).
+ * </p>
+ * Since most nodes have few children (if any), children are stored in one of three forms, switched automatically:
+ * <ul>
+ *     <li>Leaves hold no storage at all.</li>
+ *     <li>Up to {@value #MAX_INLINE_CHILDREN} children are held in a single array of interleaved keys and nodes, and
+ *     searched linearly.</li>
+ *     <li>More children are held in a hash map.</li>
+ * </ul>
+ * In all forms, children keep their insertion order.
  *
  * @param <K> Generic type of node's key.
  * @param <D> Generic type of node's data.
@@ -17,9 +34,21 @@ import java.util.stream.Collectors;
 public class TreeNode<K, D> {
 
     /**
-     * Children of this node.
+     * Maximal number of children held in an array; more children are held in a hash map.
      */
-    private final Map<K, TreeNode<K, D>> children = new LinkedHashMap<>();
+    static final int MAX_INLINE_CHILDREN = 8;
+
+    /**
+     * Once held in a hash map, children move back to an array only when their number drops to this threshold. The
+     * gap prevents a node from switching back and forth when a child is repeatedly added and removed.
+     */
+    private static final int MIN_MAPPED_CHILDREN = MAX_INLINE_CHILDREN / 2;
+
+    /**
+     * Children of this node: {@code null} if there are none, an array of interleaved keys and nodes (<i>key0, node0,
+     * key1, node1, ...</i>) sized exactly to the number of children, or a {@link LinkedHashMap}.
+     */
+    private Object children;
     /**
      * Data associated the current node.
      */
@@ -65,8 +94,31 @@ public class TreeNode<K, D> {
      * @return Newly created node.
      */
     public TreeNode<K, D> add(K key, D data) {
-        TreeNode<K, D> newNode = new TreeNode<>(data);
-        children.put(key, newNode);
+        TreeNode<K, D> newNode = newChild(data);
+        if (children instanceof Object[] inline) {
+            int index = indexOf(inline, key);
+            if (index >= 0) {
+                // Replace existing child, keeping its position.
+                inline[index + 1] = newNode;
+            } else if (inline.length < MAX_INLINE_CHILDREN * 2) {
+                Object[] grown = new Object[inline.length + 2];
+                System.arraycopy(inline, 0, grown, 0, inline.length);
+                grown[inline.length] = key;
+                grown[inline.length + 1] = newNode;
+                children = grown;
+            } else {
+                Map<K, TreeNode<K, D>> map = new LinkedHashMap<>(MAX_INLINE_CHILDREN * 4);
+                for (int i = 0; i < inline.length; i += 2) {
+                    map.put(keyAt(inline, i), nodeAt(inline, i));
+                }
+                map.put(key, newNode);
+                children = map;
+            }
+        } else if (children == null) {
+            children = new Object[]{key, newNode};
+        } else {
+            asMap().put(key, newNode);
+        }
         return newNode;
     }
 
@@ -77,7 +129,11 @@ public class TreeNode<K, D> {
      * @return Node matching given <i>key</i> or {@code null} if no such key exists.
      */
     public TreeNode<K, D> getNode(K key) {
-        return this.children.get(key);
+        if (children instanceof Object[] inline) {
+            int index = indexOf(inline, key);
+            return index >= 0 ? nodeAt(inline, index) : null;
+        }
+        return children == null ? null : asMap().get(key);
     }
 
     /**
@@ -134,13 +190,203 @@ public class TreeNode<K, D> {
      * @return {@code true} if node exists and is removed, {@code false} if node does not exist.
      */
     public boolean remove(K key) {
-        return children.remove(key) != null;
+        if (children instanceof Object[] inline) {
+            int index = indexOf(inline, key);
+            if (index < 0) {
+                return false;
+            }
+            if (inline.length == 2) {
+                children = null;
+            } else {
+                Object[] shrunk = new Object[inline.length - 2];
+                System.arraycopy(inline, 0, shrunk, 0, index);
+                System.arraycopy(inline, index + 2, shrunk, index, inline.length - index - 2);
+                children = shrunk;
+            }
+            return true;
+        }
+
+        if (children == null) {
+            return false;
+        }
+        Map<K, TreeNode<K, D>> map = asMap();
+        if (!map.containsKey(key)) {
+            return false;
+        }
+        map.remove(key);
+        if (map.size() <= MIN_MAPPED_CHILDREN) {
+            Object[] inline = new Object[map.size() * 2];
+            int index = 0;
+            for (Map.Entry<K, TreeNode<K, D>> entry : map.entrySet()) {
+                inline[index++] = entry.getKey();
+                inline[index++] = entry.getValue();
+            }
+            children = inline;
+        }
+        return true;
     }
 
     /**
      * @return List of children's node data. Will exclude {@code null} values.
      */
     public List<D> getChildrenData() {
-        return this.children.values().stream().map(TreeNode::getData).filter(Objects::nonNull).collect(Collectors.toList());
+        List<D> result = new ArrayList<>();
+        for (Iterator<Map.Entry<K, TreeNode<K, D>>> it = childIterator(); it.hasNext(); ) {
+            D childData = it.next().getValue().getData();
+            if (childData != null) {
+                result.add(childData);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fetch the aggregate of this node's subtree, maintained by trees created with a {@link TreeAggregation} (see
+     * {@link Tree#Tree(TreeAggregation)}).
+     *
+     * @return Aggregate of this node's data and all of its descendants' data.
+     * @throws IllegalStateException If the tree of this node does not maintain aggregates.
+     */
+    public D getAggregate() throws IllegalStateException {
+        throw new IllegalStateException("Tree does not maintain aggregates.");
+    }
+
+    /**
+     * Iterate over this node and all of its descendants, depth-first (pre-order). Iteration does not recurse, so it
+     * handles trees of any depth. The tree must not be changed while iterating.
+     *
+     * @return Iterator over nodes of this subtree, starting with this node.
+     */
+    public Iterator<TreeNode<K, D>> depthFirstIterator() {
+        return new TreeTraversal.DepthFirstIterator<>(this);
+    }
+
+    /**
+     * Iterate over this node and all of its descendants, breadth-first (level by level). The tree must not be changed
+     * while iterating.
+     *
+     * @return Iterator over nodes of this subtree, starting with this node.
+     */
+    public Iterator<TreeNode<K, D>> breadthFirstIterator() {
+        return new TreeTraversal.BreadthFirstIterator<>(this);
+    }
+
+    /**
+     * Visit this node and all of its descendants, depth-first (pre-order), along with the path to each of them. The
+     * traversal does not recurse, so it handles trees of any depth. The tree must not be changed during the traversal.
+     *
+     * @param action Action receiving the path to each node (relative to this node; empty for this node) and the node
+     *               itself. The path is a read-only view that is valid only during the call.
+     */
+    public void forEachNode(BiConsumer<? super List<K>, ? super TreeNode<K, D>> action) {
+        TreeTraversal.forEachNode(this, action);
+    }
+
+    /**
+     * @return A splittable traversal of this node and all of its descendants, in no particular order.
+     */
+    public Spliterator<TreeNode<K, D>> spliterator() {
+        return new TreeTraversal.NodeSpliterator<>(this);
+    }
+
+    /**
+     * Stream this node and all of its descendants, in no particular order. The stream can be made parallel (e.g., to
+     * aggregate a large tree on a fork-join pool). The tree must not be changed while streaming.
+     *
+     * @return Stream of nodes of this subtree.
+     */
+    public Stream<TreeNode<K, D>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Create a new node, to be added as a child of this node.
+     *
+     * @param data Data of new node.
+     * @return New node.
+     */
+    protected TreeNode<K, D> newChild(D data) {
+        return new TreeNode<>(data);
+    }
+
+    /**
+     * @return Iterator over children of this node (key and node), in insertion order. Not to be used to change
+     * children.
+     */
+    Iterator<Map.Entry<K, TreeNode<K, D>>> childIterator() {
+        if (children instanceof Object[] inline) {
+            return new InlineIterator<>(inline);
+        }
+        return children == null ? Collections.emptyIterator() : asMap().entrySet().iterator();
+    }
+
+    /**
+     * @return Children held in a hash map.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<K, TreeNode<K, D>> asMap() {
+        return (Map<K, TreeNode<K, D>>) children;
+    }
+
+    /**
+     * Find a key in an array of interleaved keys and nodes.
+     *
+     * @param inline Array to search.
+     * @param key    Key to look by.
+     * @return Index of key, or -1 if not found.
+     */
+    private static int indexOf(Object[] inline, Object key) {
+        for (int index = 0; index < inline.length; index += 2) {
+            if (Objects.equals(inline[index], key)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> K keyAt(Object[] inline, int index) {
+        return (K) inline[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, D> TreeNode<K, D> nodeAt(Object[] inline, int index) {
+        return (TreeNode<K, D>) inline[index + 1];
+    }
+
+    /**
+     * Iterates over children held in an array of interleaved keys and nodes.
+     */
+    private static final class InlineIterator<K, D> implements Iterator<Map.Entry<K, TreeNode<K, D>>> {
+
+        /**
+         * Interleaved keys and nodes.
+         */
+        private final Object[] inline;
+
+        /**
+         * Index of next key.
+         */
+        private int index;
+
+        InlineIterator(Object[] inline) {
+            this.inline = inline;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < inline.length;
+        }
+
+        @Override
+        public Map.Entry<K, TreeNode<K, D>> next() {
+            if (index >= inline.length) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, TreeNode<K, D>> entry =
+                    new AbstractMap.SimpleImmutableEntry<>(keyAt(inline, index), nodeAt(inline, index));
+            index += 2;
+            return entry;
+        }
     }
 }
@@ -0,0 +1,276 @@
+package jack.collections;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * <p>Iterative traversals of {@link TreeNode} subtrees.
+ * </p>
+ * All traversals keep their state in explicit stacks or queues rather than on the call stack, so they handle trees of
+ * any depth. They assume the tree is not changed while being traversed.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+final class TreeTraversal {
+
+    /**
+     * Class constructor. This is a utility class, no instances are allowed.
+     */
+    private TreeTraversal() {
+    }
+
+    /**
+     * Visit all nodes of a subtree, depth-first (pre-order), along with their paths.
+     *
+     * @param root   Root of subtree. Visited first, with an empty path.
+     * @param action Action receiving the path to each node (relative to <i>root</i>) and the node itself. The path is
+     *               a read-only view, valid only during the call; copy it to retain it.
+     * @param <K>    Generic type of node's key.
+     * @param <D>    Generic type of node's data.
+     */
+    static <K, D> void forEachNode(TreeNode<K, D> root, BiConsumer<? super List<K>, ? super TreeNode<K, D>> action) {
+        List<K> path = new ArrayList<>();
+        List<K> pathView = Collections.unmodifiableList(path);
+        Deque<Iterator<Map.Entry<K, TreeNode<K, D>>>> stack = new ArrayDeque<>();
+
+        action.accept(pathView, root);
+        stack.push(root.childIterator());
+        while (!stack.isEmpty()) {
+            Iterator<Map.Entry<K, TreeNode<K, D>>> children = stack.peek();
+            if (!children.hasNext()) {
+                // All children of this level visited -- go back up.
+                stack.pop();
+                if (!path.isEmpty()) {
+                    path.remove(path.size() - 1);
+                }
+                continue;
+            }
+
+            Map.Entry<K, TreeNode<K, D>> child = children.next();
+            path.add(child.getKey());
+            action.accept(pathView, child.getValue());
+            stack.push(child.getValue().childIterator());
+        }
+    }
+
+    /**
+     * Iterates over a subtree depth-first (pre-order). Holds one child iterator per level of depth.
+     *
+     * @param <K> Generic type of node's key.
+     * @param <D> Generic type of node's data.
+     */
+    static final class DepthFirstIterator<K, D> implements Iterator<TreeNode<K, D>> {
+
+        /**
+         * Child iterators of the nodes along the current path.
+         */
+        private final Deque<Iterator<Map.Entry<K, TreeNode<K, D>>>> stack = new ArrayDeque<>();
+
+        /**
+         * Next node to return, or {@code null} if the root was already returned.
+         */
+        private TreeNode<K, D> root;
+
+        /**
+         * Class constructor.
+         *
+         * @param root Root of subtree.
+         */
+        DepthFirstIterator(TreeNode<K, D> root) {
+            this.root = root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (root != null) {
+                return true;
+            }
+            // Discard exhausted levels, so that the top of the stack (if any) has a next child.
+            while (!stack.isEmpty() && !stack.peek().hasNext()) {
+                stack.pop();
+            }
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public TreeNode<K, D> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            TreeNode<K, D> node;
+            if (root != null) {
+                node = root;
+                root = null;
+            } else {
+                node = stack.peek().next().getValue();
+            }
+            stack.push(node.childIterator());
+            return node;
+        }
+    }
+
+    /**
+     * Iterates over a subtree breadth-first (level by level).
+     *
+     * @param <K> Generic type of node's key.
+     * @param <D> Generic type of node's data.
+     */
+    static final class BreadthFirstIterator<K, D> implements Iterator<TreeNode<K, D>> {
+
+        /**
+         * Nodes pending a visit.
+         */
+        private final Deque<TreeNode<K, D>> queue = new ArrayDeque<>();
+
+        /**
+         * Class constructor.
+         *
+         * @param root Root of subtree.
+         */
+        BreadthFirstIterator(TreeNode<K, D> root) {
+            queue.add(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public TreeNode<K, D> next() {
+            TreeNode<K, D> node = queue.poll();
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+            for (Iterator<Map.Entry<K, TreeNode<K, D>>> it = node.childIterator(); it.hasNext(); ) {
+                queue.add(it.next().getValue());
+            }
+            return node;
+        }
+    }
+
+    /**
+     * <p>A splittable traversal of a subtree, allowing nodes to be processed in parallel (e.g., via
+     * {@code tree.stream().parallel()}).
+     * </p>
+     * The spliterator holds a list of pending subtrees. Splitting hands over half of the pending subtrees. If only a
+     * single subtree is pending, it is first expanded into its children (its root is kept, to be returned alone), so
+     * that even a tree with a single top-level chain can be split. Nodes are returned in no particular order.
+     *
+     * @param <K> Generic type of node's key.
+     * @param <D> Generic type of node's data.
+     */
+    static final class NodeSpliterator<K, D> implements Spliterator<TreeNode<K, D>> {
+
+        /**
+         * Roots of pending subtrees.
+         */
+        private final Deque<TreeNode<K, D>> subtrees;
+
+        /**
+         * A node to return on its own (without its children), or {@code null}.
+         */
+        private TreeNode<K, D> single;
+
+        /**
+         * Class constructor.
+         *
+         * @param root Root of subtree.
+         */
+        NodeSpliterator(TreeNode<K, D> root) {
+            this.subtrees = new ArrayDeque<>();
+            this.subtrees.add(root);
+        }
+
+        /**
+         * Class constructor.
+         *
+         * @param subtrees Roots of pending subtrees.
+         */
+        private NodeSpliterator(Deque<TreeNode<K, D>> subtrees) {
+            this.subtrees = subtrees;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super TreeNode<K, D>> action) {
+            TreeNode<K, D> node;
+            if (single != null) {
+                node = single;
+                single = null;
+            } else {
+                node = subtrees.poll();
+                if (node == null) {
+                    return false;
+                }
+                pushChildren(node);
+            }
+            action.accept(node);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super TreeNode<K, D>> action) {
+            if (single != null) {
+                action.accept(single);
+                single = null;
+            }
+            TreeNode<K, D> node;
+            while ((node = subtrees.poll()) != null) {
+                pushChildren(node);
+                action.accept(node);
+            }
+        }
+
+        @Override
+        public Spliterator<TreeNode<K, D>> trySplit() {
+            if (subtrees.size() == 1 && single == null) {
+                TreeNode<K, D> root = subtrees.poll();
+                pushChildren(root);
+                single = root;
+            }
+
+            int count = subtrees.size() / 2;
+            if (count == 0) {
+                return null;
+            }
+
+            Deque<TreeNode<K, D>> split = new ArrayDeque<>(count);
+            for (int index = 0; index < count; index++) {
+                split.add(subtrees.pollLast());
+            }
+            return new NodeSpliterator<>(split);
+        }
+
+        @Override
+        public long estimateSize() {
+            return subtrees.isEmpty() ? (single != null ? 1 : 0) : Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL;
+        }
+
+        /**
+         * Add children of a node as pending subtrees, to be visited next.
+         *
+         * @param node Node whose children to add.
+         */
+        private void pushChildren(TreeNode<K, D> node) {
+            for (Iterator<Map.Entry<K, TreeNode<K, D>>> it = node.childIterator(); it.hasNext(); ) {
+                subtrees.push(it.next().getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package jack.idgen;
+
+import jack.utils.Asserts;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * <p>Base class for generators of random string identifiers, configured by {@link #setSymbols(char[]) symbols} and
+ * {@link #setLength(int) length}.
+ * </p>
+ * Subclasses supply the source of random bytes (see {@link #randomBytes()}); bytes are mapped to symbols without bias
+ * (see {@link SymbolAlphabet}). Bulk methods ({@link #generate(int)}, {@link #fill(String[])}) draw random bytes for
+ * the entire batch in large blocks and slice the result into identifiers.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+abstract class AbstractRandomIdGenerator implements StringIdGenerator {
+
+    /**
+     * Maximum number of symbols generated in a single block by bulk methods.
+     */
+    private static final int MAX_BULK_SYMBOLS = 1 << 16;
+
+    /**
+     * Length of generated identifier.
+     */
+    private volatile int length;
+
+    /**
+     * Symbols to use for generating string-based identifier, along with values derived from them.
+     */
+    private volatile SymbolAlphabet alphabet;
+
+    /**
+     * Class constructor.
+     *
+     * @param length  Length of generated identifier.
+     * @param symbols List of symbols to use.
+     * @throws IllegalArgumentException If either <i>length</i> is less than 1 or <i>symbols</i> is {@code null},
+     *                                  empty or contains duplicates.
+     */
+    AbstractRandomIdGenerator(int length, char[] symbols) throws IllegalArgumentException {
+        //
+        // Assert that 'length' property is well-defined.
+        //
+        if (length < 1) {
+            throw new IllegalArgumentException("Invalid length: " + length + " (must be greater than 0).");
+        }
+
+        //
+        // Assert that symbols is defined, not empty and does not contain duplicates.
+        //
+        Asserts.notNull(symbols, "Symbols cannot be null.");
+        if (symbols.length == 0) {
+            throw new IllegalArgumentException("Symbols cannot be empty.");
+        }
+        if (SymbolAlphabet.hasDuplicates(symbols)) {
+            throw new IllegalArgumentException("Characters in symbols argument are not unique (some characters appear more than once).");
+        }
+
+        this.length = length;
+        this.alphabet = new SymbolAlphabet(symbols);
+    }
+
+    @Override
+    public String generate() {
+        char[] result = new char[length];
+        alphabet.fill(randomBytes(), result, 0, result.length);
+        return new String(result);
+    }
+
+    @Override
+    public List<String> generate(int count) throws IllegalArgumentException {
+        Asserts.state(count >= 0, "Count cannot be negative.");
+        String[] identifiers = new String[count];
+        fill(identifiers);
+        return Arrays.asList(identifiers);
+    }
+
+    @Override
+    public void fill(String[] target) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        int length = this.length;
+        SymbolAlphabet alphabet = this.alphabet;
+        Consumer<byte[]> random = randomBytes();
+
+        // Generate symbols for as many identifiers as fit in a single block, then slice them.
+        int perBlock = Math.max(1, MAX_BULK_SYMBOLS / length);
+        char[] block = new char[Math.min(perBlock, target.length) * length];
+        for (int offset = 0; offset < target.length; offset += perBlock) {
+            int count = Math.min(perBlock, target.length - offset);
+            alphabet.fill(random, block, 0, count * length);
+            for (int index = 0; index < count; index++) {
+                target[offset + index] = new String(block, index * length, length);
+            }
+        }
+    }
+
+    /**
+     * Set the length of the generated identifier.
+     *
+     * @param length Length. Must be greater than 1.
+     * @throws IllegalArgumentException If <i>length &lt;= 1</i>
+     */
+    public void setLength(int length) {
+        Asserts.state(length > 1, "Length must be greater than 1.");
+        this.length = length;
+    }
+
+    /**
+     * Sets a new symbols set for identifier generation.
+     *
+     * @param symbols Set of symbols.
+     * @throws IllegalArgumentException If <i>symbols</i> is either {@code null} or is too short.
+     */
+    public void setSymbols(char[] symbols) {
+        Asserts.notNull(symbols, "Symbols list cannot be null.");
+        Asserts.state(symbols.length > 1, "Symbols list must contain at least 2 symbols.");
+        this.alphabet = new SymbolAlphabet(symbols);
+    }
+
+    /**
+     * @return Source of random bytes for the calling thread; fills a given array.
+     */
+    abstract Consumer<byte[]> randomBytes();
+}
@@ -0,0 +1,238 @@
+package jack.idgen;
+
+import jack.utils.Asserts;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>Wraps a {@link StringIdGenerator} (e.g., {@link SecureRandomIdGenerator}), keeping a buffer of identifiers
+ * generated ahead of time by a background thread. Callers take identifiers from the buffer, so the cost of generating
+ * them is paid off the caller's path.
+ * </p>
+ * <p>The buffer is a lock-free ring, filled by a single daemon thread and drained by any number of callers. Whenever
+ * the number of buffered identifiers drops to a low-water mark, the refill thread is woken up to fill the buffer up
+ * (generating identifiers in bulk, see {@link IdGenerator#generate(int)}). If a caller finds the buffer empty (e.g.,
+ * during a burst), it generates an identifier itself, synchronously; this is counted as a <i>miss</i>
+ * (see {@link #metrics()}).
+ * </p>
+ * <p>The wrapped generator is called concurrently by the refill thread and by callers on a miss, so it must be
+ * thread-safe. If it fails on the refill thread, refilling stops and callers generate all identifiers themselves,
+ * observing the failure.
+ * </p>
+ * Instances must be {@link #close() closed} to stop the refill thread. A closed instance continues to serve any
+ * identifiers left in its buffer, then generates identifiers synchronously.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class BufferedIdGenerator implements StringIdGenerator, AutoCloseable {
+
+    /**
+     * Default number of buffered identifiers.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Generator producing identifiers.
+     */
+    private final StringIdGenerator generator;
+
+    /**
+     * Buffered identifiers. A slot is {@code null} once taken by a caller, and may be filled again only then.
+     */
+    private final AtomicReferenceArray<String> slots;
+
+    /**
+     * Mask mapping a position into a slot index.
+     */
+    private final int mask;
+
+    /**
+     * Number of buffered identifiers at or below which the refill thread is woken up.
+     */
+    private final int lowWaterMark;
+
+    /**
+     * Position of next identifier to take.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Position of next identifier to fill. Updated by the refill thread only.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Number of identifiers taken from buffer.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of identifiers generated synchronously, due to an empty buffer.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Number of bulk generations by the refill thread.
+     */
+    private final AtomicLong refills = new AtomicLong();
+
+    /**
+     * Number of identifiers generated by the refill thread.
+     */
+    private final AtomicLong refilled = new AtomicLong();
+
+    /**
+     * Thread refilling the buffer.
+     */
+    private final Thread refillThread;
+
+    /**
+     * Indicates this instance was closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Class constructor. Creates a buffer of {@link #DEFAULT_CAPACITY default capacity}, refilled when half empty.
+     *
+     * @param generator Generator producing identifiers; must be thread-safe.
+     * @throws IllegalArgumentException If <i>generator</i> is {@code null}.
+     */
+    public BufferedIdGenerator(StringIdGenerator generator) throws IllegalArgumentException {
+        this(generator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Class constructor. Creates a buffer refilled when half empty.
+     *
+     * @param generator Generator producing identifiers; must be thread-safe.
+     * @param capacity  Number of buffered identifiers (rounded up to a power of 2).
+     * @throws IllegalArgumentException If <i>generator</i> is {@code null} or <i>capacity</i> is less than 2.
+     */
+    public BufferedIdGenerator(StringIdGenerator generator, int capacity) throws IllegalArgumentException {
+        this(generator, capacity, capacity / 2);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param generator    Generator producing identifiers; must be thread-safe.
+     * @param capacity     Number of buffered identifiers (rounded up to a power of 2).
+     * @param lowWaterMark Number of buffered identifiers at or below which the buffer is refilled.
+     * @throws IllegalArgumentException If <i>generator</i> is {@code null}, <i>capacity</i> is less than 2 or exceeds
+     *                                  2^30, or <i>lowWaterMark</i> is negative or not less than <i>capacity</i>.
+     */
+    public BufferedIdGenerator(StringIdGenerator generator, int capacity, int lowWaterMark)
+            throws IllegalArgumentException {
+        Asserts.notNull(generator, "Generator cannot be null.");
+        Asserts.state(capacity >= 2 && capacity <= (1 << 30), "Capacity must be between 2 and 2^30.");
+        Asserts.state(lowWaterMark >= 0 && lowWaterMark < capacity,
+                "Low-water mark must be between 0 and capacity (exclusive).");
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.generator = generator;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.lowWaterMark = lowWaterMark;
+        this.refillThread = new Thread(this::refill, "BufferedIdGenerator-refill");
+        this.refillThread.setDaemon(true);
+        this.refillThread.start();
+    }
+
+    /**
+     * @return Identifier taken from buffer or, if the buffer is empty, generated synchronously.
+     */
+    @Override
+    public String generate() {
+        while (true) {
+            long position = head.get();
+            long available = tail.get() - position;
+            if (available <= 0) {
+                misses.increment();
+                LockSupport.unpark(refillThread);
+                return generator.generate();
+            }
+            if (head.compareAndSet(position, position + 1)) {
+                // The refill thread does not reuse this slot before it is cleared.
+                String identifier = slots.getAndSet((int) position & mask, null);
+                hits.increment();
+                if (available - 1 <= lowWaterMark) {
+                    LockSupport.unpark(refillThread);
+                }
+                return identifier;
+            }
+        }
+    }
+
+    /**
+     * @return Number of identifiers currently buffered.
+     */
+    public int size() {
+        return (int) Math.max(tail.get() - head.get(), 0);
+    }
+
+    /**
+     * @return Snapshot of this instance's metrics.
+     */
+    public Metrics metrics() {
+        return new Metrics(hits.sum(), misses.sum(), refills.get(), refilled.get(), size());
+    }
+
+    /**
+     * Stop the refill thread. Identifiers left in buffer are still served.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(refillThread);
+    }
+
+    /**
+     * Body of refill thread: fill the buffer up, then wait until woken up by a caller.
+     */
+    private void refill() {
+        while (!closed) {
+            int missing = (int) (slots.length() - (tail.get() - head.get()));
+            if (missing <= 0) {
+                LockSupport.park(this);
+                continue;
+            }
+
+            List<String> identifiers = generator.generate(missing);
+            int added = 0;
+            long position = tail.get();
+            for (String identifier : identifiers) {
+                // A slot is free only once its previous identifier was taken (cleared).
+                if (slots.get((int) position & mask) != null) {
+                    break;
+                }
+                slots.set((int) position & mask, identifier);
+                tail.set(++position);
+                added++;
+            }
+            refills.incrementAndGet();
+            refilled.addAndGet(added);
+            if (added == 0) {
+                // A caller claimed a slot but has not cleared it yet.
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Metrics of a {@link BufferedIdGenerator}. Counters are cumulative since creation; rates are obtained by comparing
+     * two snapshots.
+     *
+     * @param hits     Number of identifiers taken from buffer.
+     * @param misses   Number of identifiers generated synchronously, because the buffer was empty.
+     * @param refills  Number of bulk generations by the refill thread.
+     * @param refilled Number of identifiers generated by the refill thread.
+     * @param size     Number of identifiers buffered at the time of snapshot.
+     */
+    public record Metrics(long hits, long misses, long refills, long refilled, int size) {
+    }
+}
@@ -0,0 +1,331 @@
+package jack.idgen;
+
+import jack.utils.Asserts;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * <p>A sequential identifier generator that continues where it left off after a restart, or a crash, of the JVM.
+ * </p>
+ * <p>Identifiers are leased in blocks (e.g., 1,024 at a time). Before handing out any identifier of a block, the end
+ * of the block (<i>high-water mark</i>) is written to a small, memory-mapped journal file and forced to storage. Upon
+ * opening, a generator resumes from the last high-water mark recorded, so an identifier is never handed out twice --
+ * at the cost of skipping the identifiers left unused in the last block. Writing to storage happens once per block,
+ * rather than once per identifier.
+ * </p>
+ * <p>The journal holds two slots, written alternately, each with its own generation number and CRC32 checksum. If a
+ * crash interrupts a write, the slot being written fails its checksum and the other slot -- holding the previous,
+ * already forced, high-water mark -- is used instead.
+ * </p>
+ * A journal must be used by a single generator at a time: opening a generator locks its journal file exclusively,
+ * and fails if the journal is locked by another generator (e.g., of an overlapping instance of the application). The
+ * lock is released when the generator is closed. The implementation is thread-safe and can be called concurrently.
+ * Instances should be {@link #close() closed} when no longer used.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class DurableSequencialLongIdGenerator implements LongIdGenerator, AutoCloseable {
+
+    /**
+     * Default number of identifiers leased at once.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    /**
+     * Journal file signature ('JIDJ').
+     */
+    static final int MAGIC = 0x4A49444A;
+
+    /**
+     * Journal format version.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Size of header: magic (int), version (int), reserved (8 bytes).
+     */
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * Size of a slot: generation (long), high-water mark (long), CRC32 of both (int), reserved (4 bytes).
+     */
+    static final int SLOT_SIZE = 24;
+
+    /**
+     * Size of journal file.
+     */
+    static final int JOURNAL_SIZE = HEADER_SIZE + 2 * SLOT_SIZE;
+
+    /**
+     * Journal file channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Journal file, memory-mapped.
+     */
+    private final MappedByteBuffer journal;
+
+    /**
+     * Number of identifiers leased at once.
+     */
+    private final int blockSize;
+
+    /**
+     * Next identifier to hand out.
+     */
+    private final AtomicLong next;
+
+    /**
+     * End (exclusive) of identifiers leased so far, i.e.: last high-water mark forced to storage.
+     */
+    private volatile long limit;
+
+    /**
+     * Generation of last slot written.
+     */
+    private long generation;
+
+    /**
+     * Indicates this instance was closed.
+     */
+    private boolean closed;
+
+    /**
+     * Class constructor.
+     *
+     * @param channel      Journal file channel.
+     * @param initialValue Initial value to start with, if journal is new.
+     * @param blockSize    Number of identifiers leased at once.
+     * @throws IOException If journal could not be read, or is not a valid journal.
+     */
+    private DurableSequencialLongIdGenerator(FileChannel channel, long initialValue, int blockSize) throws IOException {
+        long size = channel.size();
+        if (size != 0 && size != JOURNAL_SIZE) {
+            throw new IOException("Not an identifier journal.");
+        }
+
+        this.channel = channel;
+        this.journal = channel.map(FileChannel.MapMode.READ_WRITE, 0, JOURNAL_SIZE);
+        this.blockSize = blockSize;
+
+        // A journal whose creation was interrupted (before its header was forced) is created again.
+        if (size == 0 || journal.getInt(0) == 0) {
+            int offset = slotOffset(0);
+            journal.putInt(0, MAGIC);
+            journal.putInt(4, VERSION);
+            journal.putLong(offset, 0L);
+            journal.putLong(offset + 8, initialValue);
+            journal.putInt(offset + 16, checksum(0L, initialValue));
+            journal.force();
+            this.generation = 0;
+            this.limit = initialValue;
+        } else {
+            if (journal.getInt(0) != MAGIC) {
+                throw new IOException("Not an identifier journal.");
+            }
+            if (journal.getInt(4) != VERSION) {
+                throw new IOException("Unsupported identifier journal version: " + journal.getInt(4) + ".");
+            }
+
+            int slot = latestSlot();
+            if (slot < 0) {
+                throw new IOException("Corrupted identifier journal (no valid slot).");
+            }
+            this.generation = journal.getLong(slotOffset(slot));
+            this.limit = journal.getLong(slotOffset(slot) + 8);
+        }
+        this.next = new AtomicLong(limit);
+    }
+
+    /**
+     * Open a generator with a journal file, {@link #DEFAULT_BLOCK_SIZE default block size} and an initial value of
+     * 0. The journal is created if it does not exist.
+     *
+     * @param journal Journal file.
+     * @return New generator.
+     * @throws IllegalArgumentException If <i>journal</i> is {@code null}.
+     * @throws IOException              If journal could not be opened, is used by another generator, or is not a valid
+     *                                  journal.
+     */
+    public static DurableSequencialLongIdGenerator open(Path journal) throws IllegalArgumentException, IOException {
+        return open(journal, 0L, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Open a generator with a journal file. The journal is created if it does not exist.
+     *
+     * @param journal      Journal file.
+     * @param initialValue Initial value to start with, if journal is created; otherwise ignored.
+     * @param blockSize    Number of identifiers leased at once. Larger blocks write to storage less often but skip
+     *                     more identifiers after a restart.
+     * @return New generator.
+     * @throws IllegalArgumentException If <i>journal</i> is {@code null} or <i>blockSize</i> is less than 1.
+     * @throws IOException              If journal could not be opened, is used by another generator, or is not a valid
+     *                                  journal.
+     */
+    public static DurableSequencialLongIdGenerator open(Path journal, long initialValue, int blockSize)
+            throws IllegalArgumentException, IOException {
+        Asserts.notNull(journal, "Journal cannot be null.");
+        Asserts.state(blockSize > 0, "Block size must be greater than 0.");
+
+        FileChannel channel = FileChannel.open(journal,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // Held until the channel is closed. Within this JVM, an overlapping lock is reported by an exception rather
+            // than by a null lock.
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException ex) {
+                lock = null;
+            }
+            if (lock == null) {
+                throw new IOException("Journal is used by another generator: " + journal);
+            }
+            return new DurableSequencialLongIdGenerator(channel, initialValue, blockSize);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * @return Next identifier.
+     * @throws UncheckedIOException  If a new block could not be written to the journal.
+     * @throws IllegalStateException If this instance was closed and a new block is required.
+     */
+    @Override
+    public long nextLong() throws UncheckedIOException, IllegalStateException {
+        return reserve(1);
+    }
+
+    /**
+     * Fill an array with consecutive identifiers, reserved using a single atomic update.
+     *
+     * @param target Array to fill.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null}.
+     * @throws UncheckedIOException     If a new block could not be written to the journal.
+     * @throws IllegalStateException    If this instance was closed and a new block is required.
+     */
+    @Override
+    public void fill(long[] target) throws IllegalArgumentException, UncheckedIOException, IllegalStateException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        if (target.length == 0) {
+            return;
+        }
+        long first = reserve(target.length);
+        for (int index = 0; index < target.length; index++) {
+            target[index] = first + index;
+        }
+    }
+
+    /**
+     * Close the journal. Identifiers left in the current block are still handed out; subsequent blocks cannot be
+     * leased.
+     *
+     * @throws IOException If journal could not be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    /**
+     * Reserve a range of identifiers, leasing new blocks as required.
+     *
+     * @param count Number of identifiers to reserve; at least 1.
+     * @return First identifier of range.
+     */
+    private long reserve(int count) {
+        long first = next.getAndAdd(count);
+        long last = first + count - 1;
+        if (last >= limit) {
+            lease(last);
+        }
+        return first;
+    }
+
+    /**
+     * Lease blocks until a given identifier is covered, recording the new high-water mark in the journal.
+     *
+     * @param identifier Identifier to cover.
+     * @throws IllegalStateException If this instance was closed.
+     */
+    private synchronized void lease(long identifier) throws IllegalStateException {
+        if (identifier < limit) {
+            // Another thread already leased a block covering this identifier.
+            return;
+        }
+        if (closed) {
+            throw new IllegalStateException("Generator is closed.");
+        }
+
+        long highWaterMark = Math.max(limit + blockSize, identifier + 1);
+        long nextGeneration = generation + 1;
+        int offset = slotOffset((int) (nextGeneration & 1));
+        journal.putLong(offset, nextGeneration);
+        journal.putLong(offset + 8, highWaterMark);
+        journal.putInt(offset + 16, checksum(nextGeneration, highWaterMark));
+        journal.force();
+
+        generation = nextGeneration;
+        limit = highWaterMark;
+    }
+
+    /**
+     * @return Index of valid slot with the highest generation, or -1 if neither slot is valid.
+     */
+    private int latestSlot() {
+        int latest = -1;
+        for (int slot = 0; slot < 2; slot++) {
+            int offset = slotOffset(slot);
+            long slotGeneration = journal.getLong(offset);
+            long highWaterMark = journal.getLong(offset + 8);
+            if (journal.getInt(offset + 16) == checksum(slotGeneration, highWaterMark)
+                    && (latest < 0 || slotGeneration > journal.getLong(slotOffset(latest)))) {
+                latest = slot;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * @param slot Slot index (0 or 1).
+     * @return Offset of slot within journal.
+     */
+    private static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * Calculate checksum of a slot.
+     *
+     * @param generation    Generation of slot.
+     * @param highWaterMark High-water mark of slot.
+     * @return CRC32 of both values.
+     */
+    private static int checksum(long generation, long highWaterMark) {
+        CRC32 crc = new CRC32();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (generation >>> shift));
+        }
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (highWaterMark >>> shift));
+        }
+        return (int) crc.getValue();
+    }
+}
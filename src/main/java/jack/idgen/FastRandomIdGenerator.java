@@ -0,0 +1,107 @@
+package jack.idgen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * <p>Generates random identifiers using a fast, non-cryptographic random generator. Suitable for identifiers that
+ * should be unique with high probability but need not be unpredictable, such as correlation and trace identifiers.
+ * For secrets (e.g., tokens), use {@link SecureRandomIdGenerator}.
+ * </p>
+ * <p>Identifiers are configured the same way as those of {@link SecureRandomIdGenerator}:
+ * {@link #setSymbols(char[]) symbols} (A-Z, a-z, 0-9 by default) and {@link #setLength(int) length} (30 symbols by
+ * default), with the same unbiased mapping of random bits to symbols.
+ * </p>
+ * Each thread draws from its own generator, so no locks or atomic updates are involved. Generators are of the
+ * {@code L64X128MixRandom} algorithm, each independently seeded; if this algorithm is not available in the running
+ * JVM, {@link SplittableRandom} is used instead.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class FastRandomIdGenerator extends AbstractRandomIdGenerator {
+
+    /**
+     * Preferred random generator algorithm.
+     */
+    public static final String ALGORITHM = "L64X128MixRandom";
+
+    /**
+     * Factory of preferred random generators, or {@code null} if the algorithm is not available.
+     */
+    private static final RandomGeneratorFactory<RandomGenerator> FACTORY = factory();
+
+    /**
+     * Random generator of each thread.
+     */
+    private final ThreadLocal<RandomGenerator> randoms = ThreadLocal.withInitial(FastRandomIdGenerator::createRandom);
+
+    /**
+     * Class constructor.
+     * <p>
+     * Creates a new generator using {@link SecureRandomIdGenerator#DEFAULT_IDENTIFIER_LENGTH default length} and
+     * {@link SecureRandomIdGenerator#DEFAULT_SYMBOL_SET default symbols set}.
+     */
+    public FastRandomIdGenerator() {
+        this(SecureRandomIdGenerator.DEFAULT_IDENTIFIER_LENGTH, SecureRandomIdGenerator.DEFAULT_SYMBOL_SET);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param length Length of identifier to generate.
+     * @throws IllegalArgumentException If <i>length</i> is less than 1.
+     */
+    public FastRandomIdGenerator(int length) throws IllegalArgumentException {
+        this(length, SecureRandomIdGenerator.DEFAULT_SYMBOL_SET);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param length  Length of generated identifier.
+     * @param symbols List of symbols to use.
+     * @throws IllegalArgumentException If either <i>length</i> is less than 1 or <i>symbols</i> is {@code null},
+     *                                  empty or contains duplicates.
+     */
+    public FastRandomIdGenerator(int length, String symbols) throws IllegalArgumentException {
+        this(length, symbols.toCharArray());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param length  Length of generated identifier.
+     * @param symbols List of symbols to use.
+     * @throws IllegalArgumentException If either <i>length</i> is less than 1 or <i>symbols</i> is {@code null},
+     *                                  empty or contains duplicates.
+     */
+    public FastRandomIdGenerator(int length, char[] symbols) throws IllegalArgumentException {
+        super(length, symbols);
+    }
+
+    @Override
+    Consumer<byte[]> randomBytes() {
+        return randoms.get()::nextBytes;
+    }
+
+    /**
+     * @return Factory of {@link #ALGORITHM} generators, or {@code null} if not available.
+     */
+    private static RandomGeneratorFactory<RandomGenerator> factory() {
+        try {
+            return RandomGeneratorFactory.of(ALGORITHM);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @return New random generator, independently seeded.
+     */
+    private static RandomGenerator createRandom() {
+        return FACTORY != null ? FACTORY.create() : new SplittableRandom();
+    }
+}
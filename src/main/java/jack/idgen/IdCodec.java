@@ -0,0 +1,707 @@
+package jack.idgen;
+
+import jack.utils.Asserts;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * <p>Converts numeric and binary identifiers to and from short strings, e.g. for exposing identifiers in URLs. The
+ * following encodings are provided:
+ * </p>
+ * <ul>
+ *     <li>{@link #BASE62} -- symbols of {@link SecureRandomIdGenerator#DEFAULT_SYMBOL_SET} (0-9, A-Z, a-z).</li>
+ *     <li>{@link #CROCKFORD_BASE32} -- Crockford's base32 (0-9, A-Z without I, L, O and U). Decoding ignores case and
+ *     accepts I and L as 1, O as 0.</li>
+ *     <li>{@link #BASE64_URL} -- URL-safe base64 (A-Z, a-z, 0-9, '-', '_'), without padding.</li>
+ * </ul>
+ * <p>A {@code long} is encoded as an unsigned value, using as few symbols as required (i.e., without leading zeros).
+ * It can be written into a caller's {@code char[]}, {@code byte[]} (ASCII) or {@link ByteBuffer}, without any
+ * allocation. A {@code byte[]} is encoded using a fixed number of symbols per length ({@link #encodedLength(int)}),
+ * so leading zero bytes are kept; it too can be written into a caller's array or buffer, and decoded from one, without
+ * any allocation. When the symbols hold more bits than the bytes, the extra (padding) bits are zero,
+ * and decoding rejects symbols with non-zero padding bits:
+ * </p>
+ * <ul>
+ *     <li>{@link #BASE62} and {@link #CROCKFORD_BASE32} encode a {@code byte[]} as a big-endian number: padding bits
+ *     lead, in the first symbol. Hence, Crockford's base32 of the 16 bytes of a ULID is its canonical string form
+ *     (see {@link UlidIdGenerator}).</li>
+ *     <li>{@link #BASE64_URL} encodes a {@code byte[]} as a bit stream: padding bits trail, in the last symbol, as in
+ *     standard (RFC 4648) unpadded base64url.</li>
+ * </ul>
+ * Symbols are mapped using precomputed tables. For {@link #BASE62}, a {@code byte[]} is converted within the target
+ * range itself, consuming 7 bytes per pass over the symbols. Instances are immutable and thread-safe.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public final class IdCodec {
+
+    /**
+     * Base62, using symbols of {@link SecureRandomIdGenerator#DEFAULT_SYMBOL_SET}.
+     */
+    public static final IdCodec BASE62 = new IdCodec(SecureRandomIdGenerator.DEFAULT_SYMBOL_SET, false, "", true);
+
+    /**
+     * Crockford's base32 symbols, by value (shared with {@link UlidIdGenerator}).
+     */
+    @SuppressWarnings("SpellCheckingInspection")
+    static final String CROCKFORD_SYMBOLS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    /**
+     * Crockford's base32.
+     */
+    public static final IdCodec CROCKFORD_BASE32 = new IdCodec(CROCKFORD_SYMBOLS, true, "0O1I1L", true);
+
+    /**
+     * URL-safe base64, without padding.
+     */
+    @SuppressWarnings("SpellCheckingInspection")
+    public static final IdCodec BASE64_URL =
+            new IdCodec("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_", false, "", false);
+
+    /**
+     * Symbols, by value.
+     */
+    private final char[] symbols;
+
+    /**
+     * Value of each ASCII symbol, or -1 for characters that are not symbols.
+     */
+    private final byte[] values = new byte[128];
+
+    /**
+     * Radix (number of symbols).
+     */
+    private final int radix;
+
+    /**
+     * Number of bits per symbol, if radix is a power of 2; otherwise 0.
+     */
+    private final int bits;
+
+    /**
+     * Indicates a byte array is encoded as a number (padding bits lead); otherwise, as a bit stream (padding bits
+     * trail). Always set if radix is not a power of 2.
+     */
+    private final boolean numeric;
+
+    /**
+     * Powers of radix (unsigned), up to the largest one that fits in 64 bits.
+     */
+    private final long[] powers;
+
+    /**
+     * Largest value (unsigned) that can be multiplied by radix and added any symbol, without exceeding 64 bits.
+     */
+    private final long safeLimit;
+
+    /**
+     * Bits of information per symbol (log2 of radix).
+     */
+    private final double bitsPerSymbol;
+
+    /**
+     * Class constructor.
+     *
+     * @param symbols         Symbols, by value.
+     * @param caseInsensitive Indicates letters are decoded regardless of case.
+     * @param aliases         Additional characters accepted when decoding, as pairs of (symbol, alias).
+     * @param numeric         Indicates a byte array is encoded as a number rather than a bit stream.
+     */
+    private IdCodec(String symbols, boolean caseInsensitive, String aliases, boolean numeric) {
+        this.symbols = symbols.toCharArray();
+        this.radix = this.symbols.length;
+        this.bits = Integer.bitCount(radix) == 1 ? Integer.numberOfTrailingZeros(radix) : 0;
+        this.numeric = numeric || bits == 0;
+        this.bitsPerSymbol = Math.log(radix) / Math.log(2);
+        this.safeLimit = Long.divideUnsigned(-radix, radix);
+
+        Arrays.fill(values, (byte) -1);
+        for (int value = 0; value < radix; value++) {
+            values[this.symbols[value]] = (byte) value;
+        }
+        for (int index = 0; index < aliases.length(); index += 2) {
+            values[aliases.charAt(index + 1)] = values[aliases.charAt(index)];
+        }
+        if (caseInsensitive) {
+            for (char c = 'A'; c <= 'Z'; c++) {
+                values[Character.toLowerCase(c)] = values[c];
+            }
+        }
+
+        int count = 1;
+        while (Long.compareUnsigned(Long.divideUnsigned(-1L, radix), pow(count - 1)) >= 0) {
+            count++;
+        }
+        this.powers = new long[count];
+        for (int index = 0; index < count; index++) {
+            powers[index] = pow(index);
+        }
+    }
+
+    /**
+     * @return Maximal number of symbols of an encoded {@code long}.
+     */
+    public int maxLength() {
+        return powers.length;
+    }
+
+    /**
+     * Calculate the number of symbols of an encoded {@code long}.
+     *
+     * @param value Value (unsigned).
+     * @return Number of symbols; at least 1.
+     */
+    public int length(long value) {
+        if (bits != 0) {
+            return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + bits - 1) / bits);
+        }
+        int length = 1;
+        while (length < powers.length && Long.compareUnsigned(value, powers[length]) >= 0) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Encode a {@code long}.
+     *
+     * @param value Value to encode (unsigned).
+     * @return Encoded value.
+     */
+    public String encode(long value) {
+        char[] chars = new char[length(value)];
+        encode(value, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Encode a {@code long} into an array of characters.
+     *
+     * @param value  Value to encode (unsigned).
+     * @param target Array to write to; must have room for {@link #length(long)} symbols.
+     * @param offset Offset to start writing at.
+     * @return Number of symbols written.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null} or too short.
+     */
+    public int encode(long value, char[] target, int offset) throws IllegalArgumentException {
+        int length = length(value);
+        checkRange(target == null ? -1 : target.length, offset, length);
+        long remaining = value;
+        for (int position = offset + length - 1; position >= offset; position--) {
+            long quotient = quotient(remaining);
+            target[position] = symbols[(int) (remaining - quotient * radix)];
+            remaining = quotient;
+        }
+        return length;
+    }
+
+    /**
+     * Encode a {@code long} into an array of ASCII bytes.
+     *
+     * @param value  Value to encode (unsigned).
+     * @param target Array to write to; must have room for {@link #length(long)} symbols.
+     * @param offset Offset to start writing at.
+     * @return Number of symbols written.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null} or too short.
+     */
+    public int encode(long value, byte[] target, int offset) throws IllegalArgumentException {
+        int length = length(value);
+        checkRange(target == null ? -1 : target.length, offset, length);
+        long remaining = value;
+        for (int position = offset + length - 1; position >= offset; position--) {
+            long quotient = quotient(remaining);
+            target[position] = (byte) symbols[(int) (remaining - quotient * radix)];
+            remaining = quotient;
+        }
+        return length;
+    }
+
+    /**
+     * Encode a {@code long} into a buffer, as ASCII bytes, starting at buffer's position. Buffer's position is advanced
+     * past the symbols written.
+     *
+     * @param value  Value to encode (unsigned).
+     * @param target Buffer to write to; must have room for {@link #length(long)} symbols.
+     * @return Number of symbols written.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null} or has too little room.
+     */
+    public int encode(long value, ByteBuffer target) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target buffer cannot be null.");
+        int length = length(value);
+        Asserts.state(target.remaining() >= length, "Target buffer has too little room.");
+        int start = target.position();
+        long remaining = value;
+        for (int position = start + length - 1; position >= start; position--) {
+            long quotient = quotient(remaining);
+            target.put(position, (byte) symbols[(int) (remaining - quotient * radix)]);
+            remaining = quotient;
+        }
+        target.position(start + length);
+        return length;
+    }
+
+    /**
+     * Decode a {@code long}.
+     *
+     * @param text Encoded value.
+     * @return Decoded value (unsigned).
+     * @throws IllegalArgumentException If <i>text</i> is {@code null}, empty, contains a character which is not a
+     *                                  symbol or exceeds 64 bits.
+     */
+    public long decodeLong(CharSequence text) throws IllegalArgumentException {
+        Asserts.notNull(text, "Text cannot be null.");
+        Asserts.state(text.length() > 0, "Text cannot be empty.");
+        long value = 0;
+        for (int index = 0; index < text.length(); index++) {
+            value = accumulate(value, text.charAt(index));
+        }
+        return value;
+    }
+
+    /**
+     * Decode a {@code long} from a range of an array of characters.
+     *
+     * @param source Array holding encoded value.
+     * @param offset Offset of encoded value.
+     * @param length Number of symbols.
+     * @return Decoded value (unsigned).
+     * @throws IllegalArgumentException If range is invalid or empty, contains a character which is not a symbol or
+     *                                  exceeds 64 bits.
+     */
+    public long decodeLong(char[] source, int offset, int length) throws IllegalArgumentException {
+        checkRange(source == null ? -1 : source.length, offset, length);
+        Asserts.state(length > 0, "Text cannot be empty.");
+        long value = 0;
+        for (int index = offset; index < offset + length; index++) {
+            value = accumulate(value, source[index]);
+        }
+        return value;
+    }
+
+    /**
+     * Decode a {@code long} from a range of an array of ASCII bytes.
+     *
+     * @param source Array holding encoded value.
+     * @param offset Offset of encoded value.
+     * @param length Number of symbols.
+     * @return Decoded value (unsigned).
+     * @throws IllegalArgumentException If range is invalid or empty, contains a character which is not a symbol or
+     *                                  exceeds 64 bits.
+     */
+    public long decodeLong(byte[] source, int offset, int length) throws IllegalArgumentException {
+        checkRange(source == null ? -1 : source.length, offset, length);
+        Asserts.state(length > 0, "Text cannot be empty.");
+        long value = 0;
+        for (int index = offset; index < offset + length; index++) {
+            value = accumulate(value, source[index] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Calculate the number of symbols of an encoded byte array.
+     *
+     * @param byteCount Number of bytes.
+     * @return Number of symbols.
+     */
+    public int encodedLength(int byteCount) {
+        if (bits != 0) {
+            return (int) (((long) byteCount * 8 + bits - 1) / bits);
+        }
+        return (int) Math.ceil(byteCount * 8 / bitsPerSymbol);
+    }
+
+    /**
+     * Calculate the number of bytes of a decoded byte array.
+     *
+     * @param charCount Number of symbols.
+     * @return Number of bytes.
+     * @throws IllegalArgumentException If no byte array is encoded with <i>charCount</i> symbols.
+     */
+    public int decodedLength(int charCount) throws IllegalArgumentException {
+        int byteCount = (int) (charCount * bitsPerSymbol / 8);
+        while (byteCount > 0 && encodedLength(byteCount) > charCount) {
+            byteCount--;
+        }
+        while (encodedLength(byteCount + 1) <= charCount) {
+            byteCount++;
+        }
+        if (encodedLength(byteCount) != charCount) {
+            throw new IllegalArgumentException("Invalid length of encoded bytes: " + charCount + ".");
+        }
+        return byteCount;
+    }
+
+    /**
+     * Encode a byte array.
+     *
+     * @param value Bytes to encode.
+     * @return Encoded value, of {@link #encodedLength(int)} symbols.
+     * @throws IllegalArgumentException If <i>value</i> is {@code null}.
+     */
+    public String encode(byte[] value) throws IllegalArgumentException {
+        Asserts.notNull(value, "Value cannot be null.");
+        char[] chars = new char[encodedLength(value.length)];
+        encode(value, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Encode a byte array into an array of characters.
+     *
+     * @param value  Bytes to encode.
+     * @param target Array to write to; must have room for {@link #encodedLength(int)} symbols.
+     * @param offset Offset to start writing at.
+     * @return Number of symbols written.
+     * @throws IllegalArgumentException If either <i>value</i> or <i>target</i> is {@code null}, or <i>target</i> is
+     *                                  too short.
+     */
+    public int encode(byte[] value, char[] target, int offset) throws IllegalArgumentException {
+        Asserts.notNull(value, "Value cannot be null.");
+        int length = encodedLength(value.length);
+        checkRange(target == null ? -1 : target.length, offset, length);
+        encodeBytes(value, target, offset, length);
+        return length;
+    }
+
+    /**
+     * Encode a byte array into an array of ASCII bytes.
+     *
+     * @param value  Bytes to encode.
+     * @param target Array to write to; must have room for {@link #encodedLength(int)} symbols.
+     * @param offset Offset to start writing at.
+     * @return Number of symbols written.
+     * @throws IllegalArgumentException If either <i>value</i> or <i>target</i> is {@code null}, or <i>target</i> is
+     *                                  too short.
+     */
+    public int encode(byte[] value, byte[] target, int offset) throws IllegalArgumentException {
+        Asserts.notNull(value, "Value cannot be null.");
+        int length = encodedLength(value.length);
+        checkRange(target == null ? -1 : target.length, offset, length);
+        encodeBytes(value, target, offset, length);
+        return length;
+    }
+
+    /**
+     * Encode a byte array into a buffer, as ASCII bytes, starting at buffer's position. Buffer's position is advanced
+     * past the symbols written.
+     *
+     * @param value  Bytes to encode.
+     * @param target Buffer to write to; must have room for {@link #encodedLength(int)} symbols.
+     * @return Number of symbols written.
+     * @throws IllegalArgumentException If either <i>value</i> or <i>target</i> is {@code null}, or <i>target</i> has
+     *                                  too little room.
+     */
+    public int encode(byte[] value, ByteBuffer target) throws IllegalArgumentException {
+        Asserts.notNull(value, "Value cannot be null.");
+        Asserts.notNull(target, "Target buffer cannot be null.");
+        int length = encodedLength(value.length);
+        Asserts.state(target.remaining() >= length, "Target buffer has too little room.");
+        encodeBytes(value, target, target.position(), length);
+        target.position(target.position() + length);
+        return length;
+    }
+
+    /**
+     * Decode a byte array.
+     *
+     * @param text Encoded bytes.
+     * @return Decoded bytes.
+     * @throws IllegalArgumentException If <i>text</i> is {@code null}, has an invalid length, contains a character
+     *                                  which is not a symbol or has non-zero padding bits.
+     */
+    public byte[] decodeBytes(CharSequence text) throws IllegalArgumentException {
+        Asserts.notNull(text, "Text cannot be null.");
+        byte[] bytes = new byte[decodedLength(text.length())];
+        decodeBytes(text, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Decode a byte array into a given array.
+     *
+     * @param text   Encoded bytes.
+     * @param target Array to write to; must have room for {@link #decodedLength(int)} bytes.
+     * @param offset Offset to start writing at.
+     * @return Number of bytes written.
+     * @throws IllegalArgumentException If either argument is {@code null}, <i>text</i> has an invalid length, contains
+     *                                  a character which is not a symbol or has non-zero padding bits, or
+     *                                  <i>target</i> is too short.
+     */
+    public int decodeBytes(CharSequence text, byte[] target, int offset) throws IllegalArgumentException {
+        Asserts.notNull(text, "Text cannot be null.");
+        return decodeBytes(text, 0, text.length(), target, offset);
+    }
+
+    /**
+     * Decode a byte array from a buffer of ASCII bytes, starting at buffer's position, into a given array. Buffer's
+     * position is advanced past the symbols read.
+     *
+     * @param source Buffer holding encoded bytes.
+     * @param length Number of symbols.
+     * @param target Array to write to; must have room for {@link #decodedLength(int)} bytes.
+     * @param offset Offset to start writing at.
+     * @return Number of bytes written.
+     * @throws IllegalArgumentException If either <i>source</i> or <i>target</i> is {@code null}, <i>source</i> has
+     *                                  less than <i>length</i> symbols remaining, <i>length</i> is invalid, symbols
+     *                                  contain a character which is not a symbol or have non-zero padding bits, or
+     *                                  <i>target</i> is too short.
+     */
+    public int decodeBytes(ByteBuffer source, int length, byte[] target, int offset) throws IllegalArgumentException {
+        Asserts.notNull(source, "Source buffer cannot be null.");
+        Asserts.state(length >= 0 && source.remaining() >= length, "Source buffer has too few symbols.");
+        int byteCount = decodeBytes(source, source.position(), length, target, offset);
+        source.position(source.position() + length);
+        return byteCount;
+    }
+
+    /**
+     * Encode a byte array into a range of a target. For a radix which is not a power of 2, the range first holds the
+     * digits (values of symbols) while they are computed, so no intermediate storage is required.
+     *
+     * @param value  Bytes to encode.
+     * @param target Array of characters, array of ASCII bytes or buffer to write to.
+     * @param offset Offset to start writing at.
+     * @param length Number of symbols ({@link #encodedLength(int)}).
+     */
+    private void encodeBytes(byte[] value, Object target, int offset, int length) {
+        if (bits != 0) {
+            int bitPosition = -padding(length, value.length);
+            for (int position = offset; position < offset + length; position++, bitPosition += bits) {
+                store(target, position, symbols[digit(value, bitPosition)]);
+            }
+            return;
+        }
+
+        // Multiply digits by 256^n and add the next n bytes (n up to 7, so that each product fits in 63 bits).
+        for (int position = offset; position < offset + length; position++) {
+            store(target, position, 0);
+        }
+        for (int start = 0; start < value.length; start += 7) {
+            int count = Math.min(7, value.length - start);
+            long carry = 0;
+            for (int index = start; index < start + count; index++) {
+                carry = (carry << 8) | (value[index] & 0xFF);
+            }
+            int shift = count * 8;
+            for (int position = offset + length - 1; position >= offset; position--) {
+                long product = ((long) load(target, position) << shift) + carry;
+                carry = product / radix;
+                store(target, position, (int) (product - carry * radix));
+            }
+        }
+        for (int position = offset; position < offset + length; position++) {
+            store(target, position, symbols[load(target, position)]);
+        }
+    }
+
+    /**
+     * Decode a byte array from a range of a source into a given array.
+     *
+     * @param source Character sequence or buffer (ASCII bytes) holding encoded bytes.
+     * @param start  Index of first symbol within <i>source</i>.
+     * @param length Number of symbols.
+     * @param target Array to write to.
+     * @param offset Offset to start writing at.
+     * @return Number of bytes written.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null}, <i>length</i> is invalid, symbols contain a
+     *                                  character which is not a symbol or have non-zero padding bits, or
+     *                                  <i>target</i> is too short.
+     */
+    private int decodeBytes(Object source, int start, int length, byte[] target, int offset)
+            throws IllegalArgumentException {
+        int byteCount = decodedLength(length);
+        checkRange(target == null ? -1 : target.length, offset, byteCount);
+        Arrays.fill(target, offset, offset + byteCount, (byte) 0);
+
+        int bitPosition = bits != 0 ? -padding(length, byteCount) : 0;
+        for (int position = 0; position < length; position++, bitPosition += bits) {
+            int digit = valueOf(load(source, start + position));
+            if (bits != 0) {
+                // Place 'bits' bits at a bit position of a big-endian bit stream; bits outside of it are padding.
+                int index = Math.floorDiv(bitPosition, 8);
+                int shifted = digit << (16 - (bitPosition - index * 8) - bits);
+                place(target, offset, byteCount, index, shifted >>> 8);
+                place(target, offset, byteCount, index + 1, shifted & 0xFF);
+            } else {
+                // Multiply by radix and add digit.
+                int carry = digit;
+                for (int index = offset + byteCount - 1; index >= offset; index--) {
+                    int product = (target[index] & 0xFF) * radix + carry;
+                    target[index] = (byte) product;
+                    carry = product >>> 8;
+                }
+                if (carry != 0) {
+                    throw new IllegalArgumentException("Encoded value exceeds " + byteCount + " bytes.");
+                }
+            }
+        }
+        return byteCount;
+    }
+
+    /**
+     * Divide a value by radix. Symbols of a {@code long} are produced from least to most significant: the remainder of
+     * each division ({@code value - quotient * radix}) is a symbol, and the quotient holds the rest.
+     *
+     * @param value Value (unsigned).
+     * @return Value divided by radix (unsigned).
+     */
+    private long quotient(long value) {
+        if (bits != 0) {
+            return value >>> bits;
+        }
+        return value >= 0 ? value / radix : Long.divideUnsigned(value, radix);
+    }
+
+    /**
+     * Calculate the number of padding bits preceding the bytes, for a radix which is a power of 2.
+     *
+     * @param charCount Number of symbols.
+     * @param byteCount Number of bytes.
+     * @return Number of leading padding bits; 0 if byte arrays are encoded as a bit stream.
+     */
+    private int padding(int charCount, int byteCount) {
+        return numeric ? charCount * bits - byteCount * 8 : 0;
+    }
+
+    /**
+     * Calculate a symbol of an encoded byte array, for a radix which is a power of 2.
+     *
+     * @param value       Bytes.
+     * @param bitPosition Position of symbol's first bit, relative to first bit of <i>value</i>; bits outside of
+     *                    <i>value</i> are padding (zero).
+     * @return Value of symbol.
+     */
+    private int digit(byte[] value, int bitPosition) {
+        int index = Math.floorDiv(bitPosition, 8);
+        int window = (byteAt(value, index) << 8) | byteAt(value, index + 1);
+        return (window >>> (16 - (bitPosition - index * 8) - bits)) & (radix - 1);
+    }
+
+    /**
+     * @param value Bytes.
+     * @param index Index of byte.
+     * @return Byte at <i>index</i> (unsigned), or 0 if <i>index</i> is outside of <i>value</i>.
+     */
+    private static int byteAt(byte[] value, int index) {
+        return index >= 0 && index < value.length ? value[index] & 0xFF : 0;
+    }
+
+    /**
+     * Set bits of a decoded byte.
+     *
+     * @param target    Array of decoded bytes.
+     * @param offset    Offset of first decoded byte.
+     * @param byteCount Number of decoded bytes.
+     * @param index     Index of byte, relative to <i>offset</i>; may be outside of decoded bytes.
+     * @param bitsToSet Bits to set.
+     * @throws IllegalArgumentException If any bit is set outside of decoded bytes (i.e., a padding bit).
+     */
+    private void place(byte[] target, int offset, int byteCount, int index, int bitsToSet)
+            throws IllegalArgumentException {
+        if (bitsToSet == 0) {
+            return;
+        }
+        if (index < 0 || index >= byteCount) {
+            throw new IllegalArgumentException(numeric
+                    ? "Encoded value exceeds " + byteCount + " bytes."
+                    : "Encoded value has non-zero padding bits.");
+        }
+        target[offset + index] |= (byte) bitsToSet;
+    }
+
+    /**
+     * Append a symbol to a decoded {@code long}.
+     *
+     * @param value  Value decoded so far.
+     * @param symbol Symbol to append.
+     * @return New value.
+     * @throws IllegalArgumentException If <i>symbol</i> is not a symbol or value exceeds 64 bits.
+     */
+    private long accumulate(long value, int symbol) throws IllegalArgumentException {
+        int digit = valueOf(symbol);
+        if (bits != 0) {
+            Asserts.state(value >>> (64 - bits) == 0, "Encoded value exceeds 64 bits.");
+            return (value << bits) | digit;
+        }
+        if (Long.compareUnsigned(value, safeLimit) > 0) {
+            Asserts.state(Long.compareUnsigned(value, Long.divideUnsigned(-1L - digit, radix)) <= 0,
+                    "Encoded value exceeds 64 bits.");
+        }
+        return value * radix + digit;
+    }
+
+    /**
+     * @param symbol Symbol.
+     * @return Value of symbol.
+     * @throws IllegalArgumentException If <i>symbol</i> is not a symbol.
+     */
+    private int valueOf(int symbol) throws IllegalArgumentException {
+        int value = symbol < values.length ? values[symbol] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid symbol: '" + (char) symbol + "'.");
+        }
+        return value;
+    }
+
+    /**
+     * @param exponent Exponent.
+     * @return Radix raised to <i>exponent</i> (may overflow).
+     */
+    private long pow(int exponent) {
+        long result = 1;
+        for (int index = 0; index < exponent; index++) {
+            result *= radix;
+        }
+        return result;
+    }
+
+    /**
+     * @param source Array of characters, array of ASCII bytes, character sequence or buffer.
+     * @param index  Index within <i>source</i>.
+     * @return Character (or digit) at <i>index</i>.
+     */
+    private static int load(Object source, int index) {
+        if (source instanceof char[] chars) {
+            return chars[index];
+        } else if (source instanceof byte[] bytes) {
+            return bytes[index] & 0xFF;
+        } else if (source instanceof ByteBuffer buffer) {
+            return buffer.get(index) & 0xFF;
+        }
+        return ((CharSequence) source).charAt(index);
+    }
+
+    /**
+     * @param target Array of characters, array of ASCII bytes or buffer.
+     * @param index  Index within <i>target</i>.
+     * @param value  Character (or digit) to store at <i>index</i>.
+     */
+    private static void store(Object target, int index, int value) {
+        if (target instanceof char[] chars) {
+            chars[index] = (char) value;
+        } else if (target instanceof byte[] bytes) {
+            bytes[index] = (byte) value;
+        } else {
+            ((ByteBuffer) target).put(index, (byte) value);
+        }
+    }
+
+    /**
+     * Assert that a range fits within an array.
+     *
+     * @param arrayLength Length of array, or -1 if array is {@code null}.
+     * @param offset      Offset of range.
+     * @param length      Length of range.
+     * @throws IllegalArgumentException If array is {@code null} or range does not fit.
+     */
+    private static void checkRange(int arrayLength, int offset, int length) throws IllegalArgumentException {
+        Asserts.state(arrayLength >= 0, "Array cannot be null.");
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IllegalArgumentException(
+                    "Range [" + offset + ", " + (offset + length) + ") exceeds array of length " + arrayLength + ".");
+        }
+    }
+}
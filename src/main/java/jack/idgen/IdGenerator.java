@@ -1,9 +1,18 @@
 package jack.idgen;
 
+import jack.utils.Asserts;
+
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * An {@code IdGenerator} produces a unique identifier for each call of {@link #generate()}. The actual type (e.g.:
  * {@code java.lang.String}, {@code java.lang.Long}, ....) and uniqueness assurance are details of the underlying
  * implementation.
+ * <p>
+ * Identifiers can also be generated in bulk ({@link #generate(int)}, {@link #fill(Object[])}). By default, these call
+ * {@link #generate()} once per identifier; implementations override them when a batch can be produced more cheaply
+ * (e.g., reserving a range of sequential values at once).
  *
  * @author Guy Raz Nir
  * @since 2024/09/11
@@ -15,4 +24,33 @@ public interface IdGenerator<T> {
      */
     T generate();
 
-}
\ No newline at end of file
+    /**
+     * Generate a batch of identifiers.
+     *
+     * @param count Number of identifiers to generate.
+     * @return List of <i>count</i> unique identifiers.
+     * @throws IllegalArgumentException If <i>count</i> is negative.
+     */
+    default List<T> generate(int count) throws IllegalArgumentException {
+        Asserts.state(count >= 0, "Count cannot be negative.");
+        List<T> identifiers = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            identifiers.add(generate());
+        }
+        return identifiers;
+    }
+
+    /**
+     * Fill an array with unique identifiers.
+     *
+     * @param target Array to fill.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null}.
+     */
+    default void fill(T[] target) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        for (int index = 0; index < target.length; index++) {
+            target[index] = generate();
+        }
+    }
+
+}
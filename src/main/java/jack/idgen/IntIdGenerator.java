@@ -0,0 +1,74 @@
+package jack.idgen;
+
+import jack.utils.Asserts;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link IdGenerator} of {@code int} identifiers, which can be generated as primitive values ({@link #nextInt()})
+ * -- without allocating an {@code Integer} per identifier.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public interface IntIdGenerator extends IdGenerator<Integer> {
+
+    /**
+     * @return Unique identifier for each call.
+     */
+    int nextInt();
+
+    /**
+     * @return Unique identifier for each call, boxed. Equivalent to {@link #nextInt()}.
+     */
+    @Override
+    default Integer generate() {
+        return nextInt();
+    }
+
+    /**
+     * Generate a batch of identifiers, using {@link #fill(int[])}.
+     *
+     * @param count Number of identifiers to generate.
+     * @return List of <i>count</i> unique identifiers.
+     * @throws IllegalArgumentException If <i>count</i> is negative.
+     */
+    @Override
+    default List<Integer> generate(int count) throws IllegalArgumentException {
+        int[] identifiers = generateInts(count);
+        List<Integer> result = new ArrayList<>(count);
+        for (int identifier : identifiers) {
+            result.add(identifier);
+        }
+        return result;
+    }
+
+    /**
+     * Generate a batch of identifiers, as primitive values.
+     *
+     * @param count Number of identifiers to generate.
+     * @return Array of <i>count</i> unique identifiers.
+     * @throws IllegalArgumentException If <i>count</i> is negative.
+     */
+    default int[] generateInts(int count) throws IllegalArgumentException {
+        Asserts.state(count >= 0, "Count cannot be negative.");
+        int[] identifiers = new int[count];
+        fill(identifiers);
+        return identifiers;
+    }
+
+    /**
+     * Fill an array with unique identifiers.
+     *
+     * @param target Array to fill.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null}.
+     */
+    default void fill(int[] target) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        for (int index = 0; index < target.length; index++) {
+            target[index] = nextInt();
+        }
+    }
+
+}
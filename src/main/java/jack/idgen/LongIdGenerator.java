@@ -0,0 +1,74 @@
+package jack.idgen;
+
+import jack.utils.Asserts;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link IdGenerator} of {@code long} identifiers, which can be generated as primitive values ({@link #nextLong()})
+ * -- without allocating a {@code Long} per identifier.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public interface LongIdGenerator extends IdGenerator<Long> {
+
+    /**
+     * @return Unique identifier for each call.
+     */
+    long nextLong();
+
+    /**
+     * @return Unique identifier for each call, boxed. Equivalent to {@link #nextLong()}.
+     */
+    @Override
+    default Long generate() {
+        return nextLong();
+    }
+
+    /**
+     * Generate a batch of identifiers, using {@link #fill(long[])}.
+     *
+     * @param count Number of identifiers to generate.
+     * @return List of <i>count</i> unique identifiers.
+     * @throws IllegalArgumentException If <i>count</i> is negative.
+     */
+    @Override
+    default List<Long> generate(int count) throws IllegalArgumentException {
+        long[] identifiers = generateLongs(count);
+        List<Long> result = new ArrayList<>(count);
+        for (long identifier : identifiers) {
+            result.add(identifier);
+        }
+        return result;
+    }
+
+    /**
+     * Generate a batch of identifiers, as primitive values.
+     *
+     * @param count Number of identifiers to generate.
+     * @return Array of <i>count</i> unique identifiers.
+     * @throws IllegalArgumentException If <i>count</i> is negative.
+     */
+    default long[] generateLongs(int count) throws IllegalArgumentException {
+        Asserts.state(count >= 0, "Count cannot be negative.");
+        long[] identifiers = new long[count];
+        fill(identifiers);
+        return identifiers;
+    }
+
+    /**
+     * Fill an array with unique identifiers.
+     *
+     * @param target Array to fill.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null}.
+     */
+    default void fill(long[] target) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        for (int index = 0; index < target.length; index++) {
+            target[index] = nextLong();
+        }
+    }
+
+}
@@ -1,16 +1,22 @@
 package jack.idgen;
 
+import jack.utils.Asserts;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>An identifier generator which runs sequentially starting at a given number.
  * </p>
- * The implementation is thread-safe and can be called concurrently.
+ * The implementation is thread-safe and can be called concurrently. Bulk methods reserve a contiguous range of
+ * identifiers using a single atomic update, rather than one update per identifier.
  *
  * @author Guy Raz Nir
  * @since 2024/09/17
  */
-public class SequencialIntegerIdGenerator implements IdGenerator<Integer> {
+public class SequencialIntegerIdGenerator implements IntIdGenerator {
 
     /**
      * Internal counter.
@@ -36,7 +42,88 @@ public class SequencialIntegerIdGenerator implements IdGenerator<Integer> {
      * @return Next integer identifier.
      */
     @Override
-    public Integer generate() {
+    public int nextInt() {
         return counter.getAndIncrement();
     }
+
+    /**
+     * Generate a batch of consecutive identifiers.
+     *
+     * @param count Number of identifiers to generate.
+     * @return Unmodifiable list of <i>count</i> consecutive identifiers.
+     * @throws IllegalArgumentException If <i>count</i> is negative.
+     */
+    @Override
+    public List<Integer> generate(int count) throws IllegalArgumentException {
+        Asserts.state(count >= 0, "Count cannot be negative.");
+        return new Range(reserve(count), count);
+    }
+
+    @Override
+    public void fill(Integer[] target) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        int first = reserve(target.length);
+        for (int index = 0; index < target.length; index++) {
+            target[index] = first + index;
+        }
+    }
+
+    /**
+     * Fill an array with consecutive identifiers.
+     *
+     * @param target Array to fill.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null}.
+     */
+    @Override
+    public void fill(int[] target) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        int first = reserve(target.length);
+        for (int index = 0; index < target.length; index++) {
+            target[index] = first + index;
+        }
+    }
+
+    /**
+     * Reserve a range of identifiers.
+     *
+     * @param count Number of identifiers to reserve.
+     * @return First identifier of range.
+     */
+    private int reserve(int count) {
+        return counter.getAndAdd(count);
+    }
+
+    /**
+     * A list of consecutive identifiers, computed on access rather than stored.
+     */
+    private static final class Range extends AbstractList<Integer> implements RandomAccess {
+
+        /**
+         * First identifier.
+         */
+        private final int first;
+
+        /**
+         * Number of identifiers.
+         */
+        private final int size;
+
+        private Range(int first, int size) {
+            this.first = first;
+            this.size = size;
+        }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of range [0, " + size + ").");
+            }
+            return first + index;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
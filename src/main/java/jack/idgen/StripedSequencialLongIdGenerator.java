@@ -0,0 +1,140 @@
+package jack.idgen;
+
+import jack.utils.Asserts;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A sequential identifier generator in which each thread leases blocks of consecutive identifiers from a shared
+ * counter (the <i>hi/lo</i> scheme), then hands them out without any synchronization.
+ * </p>
+ * <p>A shared counter ({@link SequencialLongIdGenerator}) is updated by every call, so under heavy concurrency all
+ * threads compete over a single cache line. Here, the shared counter is updated once per block (e.g., once per 1,024
+ * identifiers), making contention negligible.
+ * </p>
+ * Identifiers are unique across all threads. The trade-offs, compared with {@link SequencialLongIdGenerator}:
+ * <ul>
+ *     <li>Identifiers increase within each thread, but not across threads -- a thread may generate a smaller
+ *     identifier after another thread generated a larger one.</li>
+ *     <li>The sequence has gaps: identifiers leased by a thread but never generated (e.g., because the thread
+ *     terminated) are never handed out.</li>
+ * </ul>
+ * The implementation is thread-safe and can be called concurrently.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class StripedSequencialLongIdGenerator implements LongIdGenerator {
+
+    /**
+     * Default number of identifiers leased by a thread at once.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    /**
+     * First identifier not leased yet.
+     */
+    private final AtomicLong counter = new AtomicLong();
+
+    /**
+     * Number of identifiers leased by a thread at once.
+     */
+    private final int blockSize;
+
+    /**
+     * Block currently leased by each thread. Blocks do not reference this generator, so a discarded generator is not
+     * kept reachable by the thread-local maps of (e.g., pooled) threads that used it.
+     */
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    /**
+     * Class constructor.
+     */
+    public StripedSequencialLongIdGenerator() {
+        this(0L, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param initialValue Initial value to start with.
+     */
+    public StripedSequencialLongIdGenerator(long initialValue) {
+        this(initialValue, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param initialValue Initial value to start with.
+     * @param blockSize    Number of identifiers leased by a thread at once.
+     * @throws IllegalArgumentException If <i>blockSize</i> is less than 1.
+     */
+    public StripedSequencialLongIdGenerator(long initialValue, int blockSize) throws IllegalArgumentException {
+        Asserts.state(blockSize > 0, "Block size must be greater than 0.");
+        this.counter.set(initialValue);
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @return Next identifier of calling thread.
+     */
+    @Override
+    public long nextLong() {
+        Block block = blocks.get();
+        if (block.next == block.limit) {
+            block.lease(counter, blockSize);
+        }
+        return block.next++;
+    }
+
+    /**
+     * Fill an array with identifiers. Identifiers left in calling thread's current block are used first; the rest are
+     * leased at once (a single block, at least as large as the remainder).
+     *
+     * @param target Array to fill.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null}.
+     */
+    @Override
+    public void fill(long[] target) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        Block block = blocks.get();
+        int index = 0;
+        while (index < target.length) {
+            if (block.next == block.limit) {
+                block.lease(counter, Math.max(blockSize, target.length - index));
+            }
+            int count = (int) Math.min(block.limit - block.next, target.length - index);
+            for (int offset = 0; offset < count; offset++) {
+                target[index++] = block.next++;
+            }
+        }
+    }
+
+    /**
+     * A range of identifiers leased by a thread.
+     */
+    private static final class Block {
+
+        /**
+         * Next identifier to hand out.
+         */
+        private long next;
+
+        /**
+         * End of range (exclusive).
+         */
+        private long limit;
+
+        /**
+         * Lease a new range, discarding any identifiers left in the current one.
+         *
+         * @param counter Shared counter to lease from.
+         * @param size    Number of identifiers to lease.
+         */
+        private void lease(AtomicLong counter, int size) {
+            next = counter.getAndAdd(size);
+            limit = next + size;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package jack.idgen;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * <p>Converts random bytes into symbols of an alphabet, uniformly.
+ * </p>
+ * <p>Each symbol is drawn from the smallest number of random bits that can represent all symbols (e.g., 6 bits for 62
+ * symbols). If the number of symbols is a power of 2, every value of these bits maps to a symbol, so random bytes are
+ * consumed as a continuous stream of bits, without waste. Otherwise, values beyond the last symbol are rejected and
+ * drawn again (rejection sampling), which keeps all symbols equally likely; on average, less than two draws are
+ * needed per symbol.
+ * </p>
+ * Instances are immutable.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+final class SymbolAlphabet {
+
+    /**
+     * Maximum number of random bytes drawn at once. Larger requests are served by refilling the same buffer.
+     */
+    private static final int MAX_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Symbols of alphabet.
+     */
+    private final char[] symbols;
+
+    /**
+     * Mask extracting a candidate symbol index from random bits.
+     */
+    private final int mask;
+
+    /**
+     * Number of random bits per symbol.
+     */
+    private final int bitsPerSymbol;
+
+    /**
+     * Indicates the number of symbols is a power of 2, so no candidate is ever rejected.
+     */
+    private final boolean powerOfTwo;
+
+    /**
+     * Number of random bytes drawn per candidate symbol, if candidates may be rejected.
+     */
+    private final int bytesPerSymbol;
+
+    /**
+     * Class constructor.
+     *
+     * @param symbols Symbols of alphabet; at least one.
+     */
+    SymbolAlphabet(char[] symbols) {
+        this.symbols = symbols.clone();
+        this.bitsPerSymbol = symbols.length == 1 ? 0 : 32 - Integer.numberOfLeadingZeros(symbols.length - 1);
+        this.mask = (1 << bitsPerSymbol) - 1;
+        this.powerOfTwo = (symbols.length & (symbols.length - 1)) == 0;
+        this.bytesPerSymbol = (bitsPerSymbol + 7) / 8;
+    }
+
+    /**
+     * Check if a given array of characters contains duplicates.
+     *
+     * @param chars Characters to examine.
+     * @return {@code true} if array contain duplicates, {@code false} if all characters are unique.
+     */
+    static boolean hasDuplicates(char[] chars) {
+        Set<Character> set = new HashSet<>(chars.length);
+        for (char c : chars) {
+            set.add(c);
+        }
+        return chars.length != set.size();
+    }
+
+    /**
+     * @return Number of symbols.
+     */
+    int size() {
+        return symbols.length;
+    }
+
+    /**
+     * Fill a range of an array with random symbols.
+     *
+     * @param random Source of random bytes (e.g., {@code SecureRandom::nextBytes}); fills a given array.
+     * @param target Array to fill.
+     * @param offset Offset to start at.
+     * @param count  Number of symbols to generate.
+     */
+    void fill(Consumer<byte[]> random, char[] target, int offset, int count) {
+        if (bitsPerSymbol == 0) {
+            // A single symbol -- nothing is random.
+            Arrays.fill(target, offset, offset + count, symbols[0]);
+        } else if (powerOfTwo) {
+            fillBits(random, target, offset, count);
+        } else {
+            fillRejecting(random, target, offset, count);
+        }
+    }
+
+    /**
+     * Fill symbols by slicing a stream of random bits, {@link #bitsPerSymbol} bits per symbol.
+     */
+    private void fillBits(Consumer<byte[]> random, char[] target, int offset, int count) {
+        byte[] buffer = new byte[(int) Math.min(((long) count * bitsPerSymbol + 7) / 8, MAX_BUFFER_SIZE)];
+        random.accept(buffer);
+
+        int position = 0;
+        long accumulator = 0;
+        int available = 0;
+        for (int index = offset; index < offset + count; index++) {
+            while (available < bitsPerSymbol) {
+                if (position == buffer.length) {
+                    random.accept(buffer);
+                    position = 0;
+                }
+                accumulator = (accumulator << 8) | (buffer[position++] & 0xFF);
+                available += 8;
+            }
+            available -= bitsPerSymbol;
+            target[index] = symbols[(int) (accumulator >>> available) & mask];
+        }
+    }
+
+    /**
+     * Fill symbols by rejection sampling: draw candidates of {@link #bitsPerSymbol} bits, rejecting candidates beyond
+     * the last symbol.
+     */
+    private void fillRejecting(Consumer<byte[]> random, char[] target, int offset, int count) {
+        // Expected number of draws per symbol is (mask + 1) / symbols.length; add some slack to avoid refilling.
+        long expected = (long) count * bytesPerSymbol * (mask + 1) / symbols.length;
+        byte[] buffer = new byte[(int) Math.min(expected + expected / 8 + 16, MAX_BUFFER_SIZE)];
+        random.accept(buffer);
+
+        int position = 0;
+        int index = offset;
+        while (index < offset + count) {
+            if (position + bytesPerSymbol > buffer.length) {
+                random.accept(buffer);
+                position = 0;
+            }
+
+            int candidate = 0;
+            for (int drawn = 0; drawn < bytesPerSymbol; drawn++) {
+                candidate = (candidate << 8) | (buffer[position++] & 0xFF);
+            }
+            candidate &= mask;
+            if (candidate < symbols.length) {
+                target[index++] = symbols[candidate];
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package jack.idgen;
+
+import jack.utils.Asserts;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Base class of generators of 128-bit, time-ordered identifiers (e.g., {@link UlidIdGenerator ULID},
+ * {@link UuidV7IdGenerator UUIDv7}). An identifier consists of a 48-bit timestamp (milliseconds since Unix epoch),
+ * followed by random bits. Identifiers sort by creation time, both in binary and in string form, so when used as
+ * database keys new rows are appended at the end of an index rather than scattered across it.
+ * </p>
+ * <p>Identifiers are monotonic: the first identifier of each millisecond takes fresh random bits (drawn from a
+ * {@link SecureRandom}); subsequent identifiers within the same millisecond increment the random bits of the previous
+ * one by 1. Therefore, random bits are drawn at most once per millisecond regardless of rate, and identifiers of the
+ * same millisecond are predictable from one another -- they should not be used as secrets. If the random bits
+ * overflow, or if the wall clock moves backwards, the timestamp is advanced past the previous one rather than
+ * repeating an identifier.
+ * </p>
+ * <p>Besides {@link #generate()}, identifiers can be written into a reusable {@code char[]}
+ * ({@link #generate(char[], int)}) or generated in binary form ({@link #generateBytes()}), without intermediate
+ * objects.
+ * </p>
+ * The implementation is thread-safe and can be called concurrently.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public abstract class TimeOrderedIdGenerator implements StringIdGenerator {
+
+    /**
+     * Largest timestamp that fits in 48 bits.
+     */
+    private static final long MAX_TIMESTAMP = (1L << 48) - 1;
+
+    /**
+     * Source of current time, in milliseconds since Unix epoch.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Source of random bits.
+     */
+    private final Random random;
+
+    /**
+     * Mask of random bits held in {@link #high}.
+     */
+    private final long highMask;
+
+    /**
+     * Timestamp of last identifier.
+     */
+    private long lastTimestamp = -1L;
+
+    /**
+     * Upper random bits of last identifier (the bits beyond {@link #low}).
+     */
+    private long high;
+
+    /**
+     * Lower 64 random bits of last identifier.
+     */
+    private long low;
+
+    /**
+     * Class constructor.
+     *
+     * @param randomBits Number of random bits per identifier; between 65 and 80.
+     * @param clock      Source of current time, in milliseconds since Unix epoch.
+     * @param random     Source of random bits.
+     * @throws IllegalArgumentException If either <i>clock</i> or <i>random</i> is {@code null}.
+     */
+    TimeOrderedIdGenerator(int randomBits, LongSupplier clock, Random random) throws IllegalArgumentException {
+        Asserts.notNull(clock, "Clock cannot be null.");
+        Asserts.notNull(random, "Random cannot be null.");
+        this.highMask = (1L << (randomBits - 64)) - 1;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    /**
+     * Class constructor. Uses system clock and a new {@link SecureRandom}.
+     *
+     * @param randomBits Number of random bits per identifier; between 65 and 80.
+     */
+    TimeOrderedIdGenerator(int randomBits) {
+        this(randomBits, System::currentTimeMillis, new SecureRandom());
+    }
+
+    /**
+     * @return Length of an identifier in string form.
+     */
+    public abstract int length();
+
+    @Override
+    public String generate() {
+        char[] chars = new char[length()];
+        generate(chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Generate an identifier in string form, writing it into an array.
+     *
+     * @param target Array to write to.
+     * @param offset Offset to start writing at; {@link #length()} characters are written.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null} or too short.
+     */
+    public void generate(char[] target, int offset) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        Asserts.state(offset >= 0 && offset <= target.length - length(), "Target array is too short.");
+        long mostSignificantBits;
+        long leastSignificantBits;
+        synchronized (this) {
+            long timestamp = advance();
+            mostSignificantBits = mostSignificantBits(timestamp, high, low);
+            leastSignificantBits = leastSignificantBits(high, low);
+        }
+        encode(mostSignificantBits, leastSignificantBits, target, offset);
+    }
+
+    /**
+     * @return New identifier in binary form (16 bytes, big-endian).
+     */
+    public byte[] generateBytes() {
+        byte[] bytes = new byte[16];
+        generateBytes(bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Generate an identifier in binary form (16 bytes, big-endian), writing it into an array.
+     *
+     * @param target Array to write to.
+     * @param offset Offset to start writing at.
+     * @throws IllegalArgumentException If <i>target</i> is {@code null} or too short.
+     */
+    public void generateBytes(byte[] target, int offset) throws IllegalArgumentException {
+        Asserts.notNull(target, "Target array cannot be null.");
+        Asserts.state(offset >= 0 && offset <= target.length - 16, "Target array is too short.");
+        long mostSignificantBits;
+        long leastSignificantBits;
+        synchronized (this) {
+            long timestamp = advance();
+            mostSignificantBits = mostSignificantBits(timestamp, high, low);
+            leastSignificantBits = leastSignificantBits(high, low);
+        }
+        for (int index = 0; index < 8; index++) {
+            target[offset + index] = (byte) (mostSignificantBits >>> (56 - 8 * index));
+            target[offset + 8 + index] = (byte) (leastSignificantBits >>> (56 - 8 * index));
+        }
+    }
+
+    /**
+     * Compose the upper 64 bits of an identifier.
+     *
+     * @param timestamp Timestamp, in milliseconds since Unix epoch (48 bits).
+     * @param high      Upper random bits.
+     * @param low       Lower 64 random bits.
+     * @return Upper 64 bits of identifier.
+     */
+    abstract long mostSignificantBits(long timestamp, long high, long low);
+
+    /**
+     * Compose the lower 64 bits of an identifier.
+     *
+     * @param high Upper random bits.
+     * @param low  Lower 64 random bits.
+     * @return Lower 64 bits of identifier.
+     */
+    abstract long leastSignificantBits(long high, long low);
+
+    /**
+     * Encode an identifier in string form.
+     *
+     * @param mostSignificantBits  Upper 64 bits of identifier.
+     * @param leastSignificantBits Lower 64 bits of identifier.
+     * @param target               Array to write to.
+     * @param offset               Offset to start writing at.
+     */
+    abstract void encode(long mostSignificantBits, long leastSignificantBits, char[] target, int offset);
+
+    /**
+     * Advance to next identifier, updating {@link #high} and {@link #low}. Must be called while holding the lock of
+     * this instance.
+     *
+     * @return Timestamp of next identifier.
+     * @throws IllegalStateException If timestamp exceeds 48 bits.
+     */
+    private long advance() throws IllegalStateException {
+        long now = clock.getAsLong();
+        if (now > lastTimestamp) {
+            draw(now);
+        } else if (++low == 0 && (high = (high + 1) & highMask) == 0) {
+            // Random bits overflowed -- move on to the next millisecond.
+            draw(lastTimestamp + 1);
+        }
+        return lastTimestamp;
+    }
+
+    /**
+     * Start a new millisecond, with fresh random bits.
+     *
+     * @param timestamp Timestamp of new millisecond.
+     * @throws IllegalStateException If timestamp exceeds 48 bits.
+     */
+    private void draw(long timestamp) throws IllegalStateException {
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Timestamp exceeds 48 bits.");
+        }
+        lastTimestamp = timestamp;
+        high = random.nextLong() & highMask;
+        low = random.nextLong();
+    }
+}
@@ -0,0 +1,77 @@
+package jack.idgen;
+
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Generates <a href="https://github.com/ulid/spec">ULID</a>s: 128-bit identifiers consisting of a 48-bit timestamp
+ * and 80 random bits, represented as 26 characters of Crockford's base32 (e.g., {@code 01ARZ3NDEKTSV4RRFFQ69G5FAV}).
+ * ULIDs sort lexicographically by creation time.
+ * </p>
+ * See {@link TimeOrderedIdGenerator} for monotonicity and thread-safety.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class UlidIdGenerator extends TimeOrderedIdGenerator {
+
+    /**
+     * Length of a ULID in string form.
+     */
+    public static final int LENGTH = 26;
+
+    /**
+     * Number of random bits.
+     */
+    private static final int RANDOM_BITS = 80;
+
+    /**
+     * Crockford's base32 symbols, by value -- the same as of {@link IdCodec#CROCKFORD_BASE32}.
+     */
+    private static final char[] SYMBOLS = IdCodec.CROCKFORD_SYMBOLS.toCharArray();
+
+    /**
+     * Class constructor.
+     */
+    public UlidIdGenerator() {
+        super(RANDOM_BITS);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param clock  Source of current time, in milliseconds since Unix epoch.
+     * @param random Source of random bits.
+     */
+    UlidIdGenerator(LongSupplier clock, Random random) {
+        super(RANDOM_BITS, clock, random);
+    }
+
+    @Override
+    public int length() {
+        return LENGTH;
+    }
+
+    @Override
+    long mostSignificantBits(long timestamp, long high, long low) {
+        return (timestamp << 16) | high;
+    }
+
+    @Override
+    long leastSignificantBits(long high, long low) {
+        return low;
+    }
+
+    @Override
+    void encode(long mostSignificantBits, long leastSignificantBits, char[] target, int offset) {
+        // 128 bits are encoded as 3 bits followed by 25 groups of 5 bits. The 13th group spans both halves.
+        target[offset] = SYMBOLS[(int) (mostSignificantBits >>> 61)];
+        for (int index = 1; index < 13; index++) {
+            target[offset + index] = SYMBOLS[(int) (mostSignificantBits >>> (61 - 5 * index)) & 31];
+        }
+        target[offset + 13] = SYMBOLS[(int) (((mostSignificantBits & 1) << 4) | (leastSignificantBits >>> 60))];
+        for (int index = 14; index < LENGTH; index++) {
+            target[offset + index] = SYMBOLS[(int) (leastSignificantBits >>> (60 - 5 * (index - 13))) & 31];
+        }
+    }
+}
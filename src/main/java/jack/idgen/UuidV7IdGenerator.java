@@ -0,0 +1,137 @@
+package jack.idgen;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Generates version 7 UUIDs (RFC 9562): a 48-bit timestamp, followed by the version and variant fields and 74
+ * random bits, represented in the canonical lower-case hexadecimal form (e.g.,
+ * {@code 017f22e2-79b0-7cc3-98c4-dc0c0c07398f}). UUIDv7 values sort by creation time, both in binary and string form.
+ * </p>
+ * Within a millisecond, the 74 random bits act as a counter (RFC 9562, section 6.2, method 2). See
+ * {@link TimeOrderedIdGenerator} for monotonicity and thread-safety.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class UuidV7IdGenerator extends TimeOrderedIdGenerator {
+
+    /**
+     * Length of a UUID in string form.
+     */
+    public static final int LENGTH = 36;
+
+    /**
+     * Number of random bits.
+     */
+    private static final int RANDOM_BITS = 74;
+
+    /**
+     * Version field (7), in position.
+     */
+    private static final long VERSION = 0x7000L;
+
+    /**
+     * Variant field (binary 10), in position.
+     */
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+
+    /**
+     * Mask of random bits following the variant field.
+     */
+    private static final long RANDOM_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    /**
+     * Two lower-case hexadecimal digits of each byte value, at index {@code 2 * value}.
+     */
+    private static final char[] HEX_PAIRS = new char[512];
+
+    static {
+        char[] digits = "0123456789abcdef".toCharArray();
+        for (int value = 0; value < 256; value++) {
+            HEX_PAIRS[2 * value] = digits[value >>> 4];
+            HEX_PAIRS[2 * value + 1] = digits[value & 15];
+        }
+    }
+
+    /**
+     * Class constructor.
+     */
+    public UuidV7IdGenerator() {
+        super(RANDOM_BITS);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param clock  Source of current time, in milliseconds since Unix epoch.
+     * @param random Source of random bits.
+     */
+    UuidV7IdGenerator(LongSupplier clock, Random random) {
+        super(RANDOM_BITS, clock, random);
+    }
+
+    /**
+     * @return New identifier, as {@link UUID}.
+     */
+    public UUID generateUuid() {
+        byte[] bytes = generateBytes();
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        for (int index = 0; index < 8; index++) {
+            mostSignificantBits = (mostSignificantBits << 8) | (bytes[index] & 0xFF);
+            leastSignificantBits = (leastSignificantBits << 8) | (bytes[8 + index] & 0xFF);
+        }
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public int length() {
+        return LENGTH;
+    }
+
+    @Override
+    long mostSignificantBits(long timestamp, long high, long low) {
+        // 12 bits of 'rand_a' are the upper 10 bits of counter, followed by the upper 2 bits of 'low'.
+        return (timestamp << 16) | VERSION | (high << 2) | (low >>> 62);
+    }
+
+    @Override
+    long leastSignificantBits(long high, long low) {
+        return VARIANT | (low & RANDOM_B_MASK);
+    }
+
+    @Override
+    void encode(long mostSignificantBits, long leastSignificantBits, char[] target, int offset) {
+        // Layout: 8-4-4-4-12 hexadecimal digits.
+        int position = writeHex(mostSignificantBits, 56, 4, target, offset);
+        target[position++] = '-';
+        position = writeHex(mostSignificantBits, 24, 2, target, position);
+        target[position++] = '-';
+        position = writeHex(mostSignificantBits, 8, 2, target, position);
+        target[position++] = '-';
+        position = writeHex(leastSignificantBits, 56, 2, target, position);
+        target[position++] = '-';
+        writeHex(leastSignificantBits, 40, 6, target, position);
+    }
+
+    /**
+     * Write bytes of a value as hexadecimal digits.
+     *
+     * @param value  Value to write.
+     * @param shift  Shift of first (most significant) byte to write.
+     * @param count  Number of bytes to write.
+     * @param target Array to write to.
+     * @param offset Offset to start writing at.
+     * @return Offset following the last digit written.
+     */
+    private static int writeHex(long value, int shift, int count, char[] target, int offset) {
+        for (int index = 0; index < count; index++, shift -= 8) {
+            int pair = 2 * ((int) (value >>> shift) & 0xFF);
+            target[offset++] = HEX_PAIRS[pair];
+            target[offset++] = HEX_PAIRS[pair + 1];
+        }
+        return offset;
+    }
+}
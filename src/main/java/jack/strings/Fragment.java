@@ -35,7 +35,8 @@ public sealed class Fragment permits TextFragment, TokenFragment {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (!(o instanceof Fragment fragment)) return false;
+        if (o == null || getClass() != o.getClass()) return false;
+        Fragment fragment = (Fragment) o;
         return startOffset == fragment.startOffset && endOffset == fragment.endOffset && Objects.equals(contents, fragment.contents);
     }
 
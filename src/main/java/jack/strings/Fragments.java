@@ -2,7 +2,9 @@ package jack.strings;
 
 import jack.utils.Asserts;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * A {@code Fragments} represents a collection of text and token fragments taken from a given string.
@@ -27,4 +29,33 @@ public record Fragments(String text, List<Fragment> fragments) {
             }
         });
     }
+
+    /**
+     * Write these fragments to a sink, replacing each token with a value provided by <i>resolver</i>. Text fragments
+     * are written as-is. For repeated rendering of the same fragments, prefer a precompiled {@link Interpolator}.
+     *
+     * @param resolver Resolves a token name into its value. A {@code null} value indicates an unknown token.
+     * @param sink     Sink to write to.
+     * @throws IllegalArgumentException If either arguments are {@code null}.
+     * @throws StringFragmentsException If <i>resolver</i> could not resolve a token.
+     * @throws IOException              If <i>sink</i> fails to append.
+     */
+    public void interpolate(Function<String, ? extends CharSequence> resolver, Appendable sink)
+            throws IllegalArgumentException, StringFragmentsException, IOException {
+        Asserts.notNull(resolver, "Resolver cannot be null.");
+        Asserts.notNull(sink, "Sink cannot be null.");
+
+        for (Fragment fragment : fragments) {
+            if (fragment instanceof TokenFragment) {
+                CharSequence value = resolver.apply(fragment.contents);
+                if (value == null) {
+                    throw new StringFragmentsException("Unresolved token '" + fragment.contents + "'.",
+                            fragment.startOffset);
+                }
+                sink.append(value);
+            } else {
+                sink.append(fragment.contents);
+            }
+        }
+    }
 }
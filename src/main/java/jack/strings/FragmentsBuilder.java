@@ -3,17 +3,29 @@ package jack.strings;
 import jack.utils.Asserts;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
- * This builder helps construct a list of tokens.
+ * <p>This builder helps construct a list of tokens.
+ * </p>
+ * <p>Fragments are accumulated in an array, which grows as needed. An expected number of fragments can be provided
+ * upfront (see {@link #newBuilder(int)}) to avoid growing it altogether. {@link #build()} hands the array over to the
+ * returned {@link Fragments} without copying it. The builder can then be {@link #reset()} and reused (e.g., a single
+ * builder per thread).
+ * </p>
+ * This class is not thread-safe.
  *
  * @author Guy Raz Nir
  * @since 2024/08/10
  */
 public class FragmentsBuilder {
 
+    /**
+     * Default number of fragments to reserve room for.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
     /**
      * Length of token's prefix.
      */
@@ -23,9 +35,25 @@ public class FragmentsBuilder {
      */
     private final int lengthOfTokenSuffix;
     /**
-     * List of parsed parts accumulated.
+     * Number of fragments to reserve room for whenever a new array is allocated.
+     */
+    private final int initialCapacity;
+    /**
+     * Full text accumulated so far (including tokens' prefix and suffix).
      */
-    private final List<Fragment> tokens = new LinkedList<>();
+    private final StringBuilder text = new StringBuilder();
+    /**
+     * Parsed parts accumulated.
+     */
+    private Fragment[] tokens;
+    /**
+     * Number of parsed parts in {@link #tokens}.
+     */
+    private int size;
+    /**
+     * Indicates that {@link #tokens} was handed over to a {@link Fragments} instance and must not be modified anymore.
+     */
+    private boolean shared;
     /**
      * Next offset to append a part.
      */
@@ -34,9 +62,11 @@ public class FragmentsBuilder {
     /**
      * Class constructor.
      */
-    private FragmentsBuilder(int lengthOfTokenPrefix, int lengthOfTokenSuffix) {
+    private FragmentsBuilder(int lengthOfTokenPrefix, int lengthOfTokenSuffix, int initialCapacity) {
         this.lengthOfTokenPrefix = lengthOfTokenPrefix;
         this.lengthOfTokenSuffix = lengthOfTokenSuffix;
+        this.initialCapacity = Math.max(initialCapacity, 1);
+        this.tokens = new Fragment[this.initialCapacity];
     }
 
     /**
@@ -56,8 +86,36 @@ public class FragmentsBuilder {
      * @return A new builder.
      */
     public static FragmentsBuilder newBuilder(StringFragmentator tokenizer) {
+        return newBuilder(tokenizer, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new builder configured based on the default tokenizer, with room for an expected number of
+     * fragments.
+     *
+     * @param capacity Expected number of fragments.
+     * @return A new builder.
+     * @throws IllegalArgumentException If <i>capacity</i> is negative.
+     */
+    public static FragmentsBuilder newBuilder(int capacity) throws IllegalArgumentException {
+        return newBuilder(StringFragmentator.getDefault(), capacity);
+    }
+
+    /**
+     * Creates a new builder configured based on a given tokenizer, with room for an expected number of fragments.
+     *
+     * @param tokenizer Tokenizer to configure this builder upon.
+     * @param capacity  Expected number of fragments.
+     * @return A new builder.
+     * @throws IllegalArgumentException If <i>tokenizer</i> is {@code null} or <i>capacity</i> is negative.
+     */
+    public static FragmentsBuilder newBuilder(StringFragmentator tokenizer, int capacity)
+            throws IllegalArgumentException {
         Asserts.notNull(tokenizer, "Text tokenizer cannot be null.");
-        return new FragmentsBuilder(tokenizer.getTokenPrefix().length(), tokenizer.getTokenSuffix().length());
+        Asserts.state(capacity >= 0, "Capacity cannot be negative.");
+        return new FragmentsBuilder(tokenizer.getTokenPrefix().length(),
+                tokenizer.getTokenSuffix().length(),
+                capacity);
     }
 
     /**
@@ -82,11 +140,66 @@ public class FragmentsBuilder {
         return appendInternal(contents, true);
     }
 
+    /**
+     * Make sure this builder has room for at least <i>capacity</i> fragments, without growing.
+     *
+     * @param capacity Expected total number of fragments.
+     * @return This builder.
+     */
+    public FragmentsBuilder ensureCapacity(int capacity) {
+        if (capacity > tokens.length) {
+            tokens = Arrays.copyOf(tokens, capacity);
+            shared = false;
+        }
+        return this;
+    }
+
+    /**
+     * @return Number of fragments added so far.
+     */
+    public int size() {
+        return size;
+    }
+
     /**
      * @return A copy of parts' list built by this builder.
      */
     public List<Fragment> toList() {
-        return new ArrayList<>(tokens);
+        return new ArrayList<>(Arrays.asList(tokens).subList(0, size));
+    }
+
+    /**
+     * Create a {@link Fragments} from the parts added so far. The underlying array is handed over to the returned
+     * instance without copying; subsequent changes to this builder do not affect it.
+     *
+     * @return Fragments representing the parts added so far.
+     */
+    public Fragments build() {
+        List<Fragment> fragments = Arrays.asList(tokens);
+        if (size < tokens.length) {
+            fragments = fragments.subList(0, size);
+        }
+        shared = true;
+        return new Fragments(text.toString(), Collections.unmodifiableList(fragments));
+    }
+
+    /**
+     * Clear this builder, so it can be reused for building a new list of fragments.
+     *
+     * @return This builder.
+     */
+    public FragmentsBuilder reset() {
+        if (shared) {
+            // Array is owned by a previously built instance; start over with a new one.
+            tokens = new Fragment[initialCapacity];
+            shared = false;
+        } else {
+            Arrays.fill(tokens, 0, size, null);
+        }
+        text.setLength(0);
+        size = 0;
+        offset = 0;
+        return this;
     }
 
     /**
@@ -101,6 +214,7 @@ public class FragmentsBuilder {
     protected FragmentsBuilder appendInternal(String contents, boolean isToken) throws IllegalArgumentException {
         Asserts.notEmpty(contents, "Contents cannot be empty.");
         int endOffset = offset + contents.length() - 1;
+        text.append(contents);
 
         Fragment fragment;
         if (isToken) {
@@ -111,7 +225,12 @@ public class FragmentsBuilder {
             fragment = new TextFragment(contents, offset, endOffset);
         }
 
-        tokens.add(fragment);
+        if (shared || size == tokens.length) {
+            // Either the array is full, or it is owned by a previously built instance. Replace it with a new copy.
+            tokens = Arrays.copyOf(tokens, size == tokens.length ? size + (size >> 1) + 1 : tokens.length);
+            shared = false;
+        }
+        tokens[size++] = fragment;
 
         this.offset = endOffset + 1;
         return this;
@@ -0,0 +1,200 @@
+package jack.strings;
+
+import jack.utils.Asserts;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <p>A precompiled template for plain token substitution (e.g., <i>Hello ${name} !</i>).
+ * </p>
+ * <p>The template is parsed once by a {@link StringFragmentator} and kept as flat arrays of text blocks and token
+ * names. Each rendering simply walks these arrays and writes directly to the sink, without any token definition
+ * parsing or formatting. This makes it a cheap alternative to chains of {@code String.replace} or
+ * {@code String.format} whenever locale-aware formatting is not required.
+ * </p>
+ * Example:
+ * <pre>
+ *     Interpolator interpolator = Interpolator.compile("Hello ${name}, you have ${count} new messages.");
+ *
+ *     // Hello John, you have 3 new messages.
+ *     String text = interpolator.interpolate(Map.of("name", "John", "count", "3")::get);
+ * </pre>
+ * Instances are immutable and can be shared among threads.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public final class Interpolator {
+
+    /**
+     * The original template text.
+     */
+    private final String pattern;
+
+    /**
+     * Text blocks surrounding tokens. Text block at index <i>i</i> precedes token at index <i>i</i>; the last
+     * block trails the last token. Missing blocks are represented by empty strings.
+     */
+    private final String[] texts;
+
+    /**
+     * Names of tokens (excluding token's prefix and suffix).
+     */
+    private final String[] tokens;
+
+    /**
+     * Offset of each token within the template, used for error reporting.
+     */
+    private final int[] tokenOffsets;
+
+    /**
+     * Total length of all text blocks. Used as a capacity hint when rendering into a string.
+     */
+    private final int textLength;
+
+    /**
+     * Class constructor.
+     *
+     * @param fragments Fragments to build interpolator from.
+     */
+    private Interpolator(Fragments fragments) {
+        List<String> texts = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        List<Integer> offsets = new ArrayList<>();
+
+        StringBuilder text = new StringBuilder();
+        for (Fragment fragment : fragments.fragments()) {
+            if (fragment instanceof TokenFragment) {
+                texts.add(text.toString());
+                tokens.add(fragment.contents);
+                offsets.add(fragment.startOffset);
+                text.setLength(0);
+            } else {
+                text.append(fragment.contents);
+            }
+        }
+        texts.add(text.toString());
+
+        this.pattern = fragments.text();
+        this.texts = texts.toArray(new String[0]);
+        this.tokens = tokens.toArray(new String[0]);
+        this.tokenOffsets = offsets.stream().mapToInt(Integer::intValue).toArray();
+        this.textLength = texts.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Compile a template using the {@link StringFragmentator#getDefault() default fragmentator}.
+     *
+     * @param pattern Template to compile.
+     * @return A new interpolator.
+     * @throws IllegalArgumentException If <i>pattern</i> is {@code null}.
+     * @throws StringFragmentsException If <i>pattern</i> is malformed.
+     */
+    public static Interpolator compile(String pattern) throws IllegalArgumentException, StringFragmentsException {
+        return compile(pattern, StringFragmentator.getDefault());
+    }
+
+    /**
+     * Compile a template using a given fragmentator (e.g., one configured with custom token prefix and suffix).
+     *
+     * @param pattern      Template to compile.
+     * @param fragmentator Fragmentator to parse <i>pattern</i> with.
+     * @return A new interpolator.
+     * @throws IllegalArgumentException If either arguments are {@code null}.
+     * @throws StringFragmentsException If <i>pattern</i> is malformed.
+     */
+    public static Interpolator compile(String pattern, StringFragmentator fragmentator)
+            throws IllegalArgumentException, StringFragmentsException {
+        Asserts.notNull(fragmentator, "Fragmentator cannot be null.");
+        return of(fragmentator.parsePattern(pattern));
+    }
+
+    /**
+     * Create an interpolator from already parsed fragments.
+     *
+     * @param fragments Fragments to create interpolator from.
+     * @return A new interpolator.
+     * @throws IllegalArgumentException If <i>fragments</i> is {@code null}.
+     */
+    public static Interpolator of(Fragments fragments) throws IllegalArgumentException {
+        Asserts.notNull(fragments, "Fragments cannot be null.");
+        return new Interpolator(fragments);
+    }
+
+    /**
+     * Render this template into a sink.
+     *
+     * @param resolver Resolves a token name into its value. A {@code null} value indicates an unknown token.
+     * @param sink     Sink to write to.
+     * @throws IllegalArgumentException If either arguments are {@code null}.
+     * @throws StringFragmentsException If <i>resolver</i> could not resolve a token.
+     * @throws IOException              If <i>sink</i> fails to append.
+     */
+    public void interpolate(Function<String, ? extends CharSequence> resolver, Appendable sink)
+            throws IllegalArgumentException, StringFragmentsException, IOException {
+        Asserts.notNull(resolver, "Resolver cannot be null.");
+        Asserts.notNull(sink, "Sink cannot be null.");
+
+        appendText(sink, texts[0]);
+        for (int index = 0; index < tokens.length; index++) {
+            CharSequence value = resolver.apply(tokens[index]);
+            if (value == null) {
+                throw new StringFragmentsException("Unresolved token '" + tokens[index] + "'.", tokenOffsets[index]);
+            }
+            sink.append(value);
+            appendText(sink, texts[index + 1]);
+        }
+    }
+
+    /**
+     * Render this template into a string.
+     *
+     * @param resolver Resolves a token name into its value. A {@code null} value indicates an unknown token.
+     * @return Rendered text.
+     * @throws IllegalArgumentException If <i>resolver</i> is {@code null}.
+     * @throws StringFragmentsException If <i>resolver</i> could not resolve a token.
+     */
+    public String interpolate(Function<String, ? extends CharSequence> resolver)
+            throws IllegalArgumentException, StringFragmentsException {
+        // Reserve room for the static text and a few characters per token.
+        StringBuilder buf = new StringBuilder(textLength + tokens.length * 16);
+        try {
+            interpolate(resolver, buf);
+        } catch (IOException ex) {
+            // Not expected, StringBuilder does not throw.
+            throw new UncheckedIOException(ex);
+        }
+        return buf.toString();
+    }
+
+    /**
+     * @return The original template text.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return Number of tokens in this template.
+     */
+    public int getTokenCount() {
+        return tokens.length;
+    }
+
+    /**
+     * Append a text block, skipping empty ones.
+     *
+     * @param sink Sink to write to.
+     * @param text Text to write.
+     * @throws IOException If <i>sink</i> fails to append.
+     */
+    private static void appendText(Appendable sink, String text) throws IOException {
+        if (!text.isEmpty()) {
+            sink.append(text);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package jack.strings;
+
+import jack.utils.Asserts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Parse a given text into <i>fragments</i>, similar to {@link StringFragmentator}, but recognizing several kinds of
+ * tokens in a single pass. Each kind is defined by a {@link TokenDelimiter} (prefix, suffix and kind), and each parsed
+ * {@link TokenFragment} carries the {@link TokenFragment#kind kind} of its delimiter.
+ * </p>
+ * As an example, given the delimiters <i>${...}</i> (<i>var</i>), <i>#{...}</i> (<i>expr</i>) and <i>@{...}</i>
+ * (<i>link</i>), the following text:
+ * <pre>
+ *     Hello ${name}, you owe #{price * 2}. See @{terms}.
+ * </pre>
+ * is parsed as:
+ * [TEXT: Hello ][TOKEN(var): name][TEXT: , you owe ][TOKEN(expr): price * 2][TEXT: . See ][TOKEN(link): terms]
+ * [TEXT: .]<p>
+ * </p>
+ * Token prefixes are matched using a small trie, so that all prefixes are tested at once at each position. When
+ * prefixes overlap (e.g., <i>{</i> and <i>{{</i>), the longest one wins. As with {@link StringFragmentator}, a prefix
+ * preceded by an {@link StringScanner#DEFAULT_ESCAPE_CHARACTER escape character} is not considered a token.
+ * <p>
+ * Instances are immutable and can be shared among threads.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class MultiStringFragmentator {
+
+    /**
+     * Root of prefixes trie.
+     */
+    private final TrieNode root = new TrieNode();
+
+    /**
+     * Indicates, per ASCII character, if any prefix starts with it. Used to quickly skip ordinary characters.
+     */
+    private final boolean[] asciiFirstCharacters = new boolean[128];
+
+    /**
+     * Indicates if any prefix starts with a non-ASCII character.
+     */
+    private final boolean nonAsciiFirstCharacter;
+
+    /**
+     * Class constructor.
+     *
+     * @param delimiters Delimiters of all token kinds to recognize.
+     * @throws IllegalArgumentException If <i>delimiters</i> are {@code null} or empty, contain {@code null} or
+     *                                  contain the same prefix more than once.
+     */
+    public MultiStringFragmentator(TokenDelimiter... delimiters) throws IllegalArgumentException {
+        this(delimiters == null ? null : Arrays.asList(delimiters));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param delimiters Delimiters of all token kinds to recognize.
+     * @throws IllegalArgumentException If <i>delimiters</i> are {@code null} or empty, contain {@code null} or
+     *                                  contain the same prefix more than once.
+     */
+    public MultiStringFragmentator(List<TokenDelimiter> delimiters) throws IllegalArgumentException {
+        Asserts.notNull(delimiters, "Delimiters cannot be null.");
+        Asserts.state(!delimiters.isEmpty(), "Delimiters cannot be empty.");
+
+        boolean nonAscii = false;
+        for (TokenDelimiter delimiter : delimiters) {
+            Asserts.notNull(delimiter, "Delimiter cannot be null.");
+            root.insert(new CompiledDelimiter(delimiter));
+
+            char first = delimiter.prefix().charAt(0);
+            if (first < asciiFirstCharacters.length) {
+                asciiFirstCharacters[first] = true;
+            } else {
+                nonAscii = true;
+            }
+        }
+        this.nonAsciiFirstCharacter = nonAscii;
+    }
+
+    /**
+     * Parse a given text into <i>parsed parts</i>.
+     *
+     * @param text Text to parse.
+     * @return List of <i>parsed parts</i> representing the text.
+     * @throws IllegalArgumentException If <i>text</i> is {@code null}.
+     * @throws StringFragmentsException If text contains a token prefix without a matching suffix.
+     */
+    public Fragments parsePattern(String text) throws IllegalArgumentException, StringFragmentsException {
+        Asserts.notNull(text, "Text cannot be null.");
+        List<Fragment> fragments = new ArrayList<>();
+
+        int textStartOffset = 0;
+        int offset = 0;
+        while (offset < text.length()) {
+            CompiledDelimiter delimiter = isFirstCharacter(text.charAt(offset)) ? match(text, offset) : null;
+            if (delimiter == null) {
+                offset++;
+                continue;
+            }
+
+            // Close the current text block, if not empty.
+            if (offset > textStartOffset) {
+                fragments.add(new TextFragment(text.substring(textStartOffset, offset), textStartOffset, offset));
+            }
+
+            // Search for the token's suffix.
+            int contentsOffset = offset + delimiter.prefixLength;
+            int tokenEndIndex = StringScanner.findSubstring(text, delimiter.suffixMatcher, contentsOffset,
+                    StringScanner.DEFAULT_ESCAPE_CHARACTER);
+            if (tokenEndIndex == -1) {
+                // Error !!! Opening token prefix without closing suffix.
+                throw new StringFragmentsException("Opening '"
+                        + delimiter.delimiter.prefix()
+                        + "' at offset "
+                        + offset
+                        + " without a matching closing '"
+                        + delimiter.delimiter.suffix()
+                        + "'.",
+                        offset);
+            }
+
+            fragments.add(new TokenFragment(
+                    text.substring(contentsOffset, tokenEndIndex),
+                    offset,
+                    tokenEndIndex,
+                    delimiter.delimiter.kind()));
+            offset = textStartOffset = tokenEndIndex + delimiter.suffixMatcher.length();
+        }
+
+        // Trailing text block, if any.
+        if (text.length() > textStartOffset) {
+            fragments.add(new TextFragment(text.substring(textStartOffset), textStartOffset, text.length()));
+        }
+
+        return new Fragments(text, fragments);
+    }
+
+    /**
+     * Test if any prefix may start with a given character.
+     *
+     * @param c Character to test.
+     * @return {@code true} if some prefix may start with <i>c</i>, {@code false} if not.
+     */
+    private boolean isFirstCharacter(char c) {
+        return c < asciiFirstCharacters.length ? asciiFirstCharacters[c] : nonAsciiFirstCharacter;
+    }
+
+    /**
+     * Find the longest, non-escaped, prefix starting at a given offset.
+     *
+     * @param text   Text to search in.
+     * @param offset Offset of a possible prefix.
+     * @return Delimiter of the longest prefix found, or {@code null} if there is no such prefix.
+     */
+    private CompiledDelimiter match(String text, int offset) {
+        if (offset > 0 && text.charAt(offset - 1) == StringScanner.DEFAULT_ESCAPE_CHARACTER) {
+            // A prefix is disqualified, as it is preceded by an escape character.
+            return null;
+        }
+
+        CompiledDelimiter result = null;
+        TrieNode node = root;
+        for (int index = offset; index < text.length(); index++) {
+            node = node.child(text.charAt(index));
+            if (node == null) {
+                break;
+            }
+            if (node.delimiter != null) {
+                result = node.delimiter;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * A delimiter along with precomputed search data.
+     */
+    private static final class CompiledDelimiter {
+
+        private final TokenDelimiter delimiter;
+        private final int prefixLength;
+        private final SubstringMatcher suffixMatcher;
+
+        CompiledDelimiter(TokenDelimiter delimiter) {
+            this.delimiter = delimiter;
+            this.prefixLength = delimiter.prefix().length();
+            this.suffixMatcher = SubstringMatcher.of(delimiter.suffix());
+        }
+    }
+
+    /**
+     * A node in prefixes trie. Children are kept in small arrays and searched linearly, as there are typically only
+     * a handful of them.
+     */
+    private static final class TrieNode {
+
+        private char[] keys = new char[0];
+        private TrieNode[] children = new TrieNode[0];
+        private CompiledDelimiter delimiter;
+
+        /**
+         * @param c Character to look by.
+         * @return Child node associated with <i>c</i>, or {@code null} if no such child exists.
+         */
+        TrieNode child(char c) {
+            for (int index = 0; index < keys.length; index++) {
+                if (keys[index] == c) {
+                    return children[index];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Insert a delimiter, keyed by its prefix.
+         *
+         * @param delimiter Delimiter to insert.
+         * @throws IllegalArgumentException If a delimiter with the same prefix already exists.
+         */
+        void insert(CompiledDelimiter delimiter) throws IllegalArgumentException {
+            String prefix = delimiter.delimiter.prefix();
+            TrieNode node = this;
+            for (int index = 0; index < prefix.length(); index++) {
+                char c = prefix.charAt(index);
+                TrieNode child = node.child(c);
+                if (child == null) {
+                    child = new TrieNode();
+                    node.keys = Arrays.copyOf(node.keys, node.keys.length + 1);
+                    node.children = Arrays.copyOf(node.children, node.children.length + 1);
+                    node.keys[node.keys.length - 1] = c;
+                    node.children[node.children.length - 1] = child;
+                }
+                node = child;
+            }
+
+            if (node.delimiter != null) {
+                throw new IllegalArgumentException("Token prefix '" + prefix + "' is defined more than once.");
+            }
+            node.delimiter = delimiter;
+        }
+    }
+}
@@ -2,8 +2,12 @@ package jack.strings;
 
 import jack.utils.Asserts;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Parse a given text into <i>fragments</i> where each fragment is either a simple text or a token (typically a
@@ -40,6 +44,18 @@ public class StringFragmentator {
      * A singleton of a default parser, which will probably be used a lot.
      */
     private static final StringFragmentator DEFAULT_PARSER = new StringFragmentator();
+    /**
+     * Minimal text length to parse in parallel. Shorter texts are parsed sequentially.
+     */
+    private static final int PARALLEL_THRESHOLD = 256 * 1024;
+    /**
+     * Minimal chunk length for parallel parsing.
+     */
+    private static final int MIN_CHUNK_SIZE = 64 * 1024;
+    /**
+     * Number of chunks to create per worker during parallel parsing.
+     */
+    private static final int CHUNKS_PER_WORKER = 4;
     /**
      * A token prefix, marks a beginning of a token; e.g., <i>${</i>.
      */
@@ -48,6 +64,14 @@ public class StringFragmentator {
      * A token suffix, marks a ending of a token; e.g., <i>}</i>.
      */
     private final String tokenSuffix;
+    /**
+     * Precompiled matcher of token prefix.
+     */
+    private final SubstringMatcher prefixMatcher;
+    /**
+     * Precompiled matcher of token suffix.
+     */
+    private final SubstringMatcher suffixMatcher;
 
     /**
      * Class constructor. Initialize a parser using default token prefix suffix, e.g., <i>${.....}</i>.
@@ -68,6 +92,8 @@ public class StringFragmentator {
         Asserts.notEmpty(tokenSuffix, "Token suffix cannot be null or empty.");
         this.tokenPrefix = tokenPrefix;
         this.tokenSuffix = tokenSuffix;
+        this.prefixMatcher = SubstringMatcher.of(tokenPrefix);
+        this.suffixMatcher = SubstringMatcher.of(tokenSuffix);
     }
 
     public static Fragments parse(String text) throws IllegalArgumentException {
@@ -92,49 +118,221 @@ public class StringFragmentator {
     public Fragments parsePattern(String text) throws IllegalArgumentException, StringFragmentsException {
         Asserts.notNull(text, "Text cannot be null.");
         List<Fragment> fragments = new LinkedList<>();
+        parseRange(text, 0, text.length(), fragments);
+        return new Fragments(text, fragments);
+    }
 
-        if (!text.isEmpty()) {
-            int currentOffset = 0;
-            StringScanner finder = new StringScanner(text);
+    /**
+     * Parse a given text into <i>parsed parts</i> using the {@link ForkJoinPool#commonPool() common pool}. See
+     * {@link #parseParallel(CharSequence, ForkJoinPool)} for more details.
+     *
+     * @param text Text to parse.
+     * @return List of <i>parsed parts</i> representing the text.
+     * @throws IllegalArgumentException If <i>text</i> is {@code null}.
+     * @throws StringFragmentsException If text contains a placeholder opening (prefix) with a closing suffix.
+     */
+    public Fragments parseParallel(CharSequence text) throws IllegalArgumentException, StringFragmentsException {
+        return parseParallel(text, ForkJoinPool.commonPool());
+    }
 
-            while (!finder.consumed()) {
-                // Search for the next occurrence of token prefix.
-                int tokenStartIndex = finder.find(tokenPrefix);
+    /**
+     * <p>Parse a given text into <i>parsed parts</i>, splitting the work among the workers of a given <i>pool</i>.
+     * The outcome is identical to {@link #parsePattern(String)}, including the reported offsets.
+     * </p>
+     * <p>The text is split into chunks right after an occurrence of the token suffix. Regardless of whether the
+     * suffix closes a token or is merely part of a text, a scan that reaches that point is always outside a token,
+     * so each chunk can be parsed independently. Text fragments that span chunk boundaries are merged back, and in the
+     * rare case where a token straddles a boundary (e.g., with overlapping prefix and suffix), the following chunk is
+     * parsed again from the correct offset.
+     * </p>
+     * Short texts (or a single-worker pool) are parsed sequentially, as splitting does not pay off.
+     *
+     * @param text Text to parse.
+     * @param pool Pool to parse chunks in.
+     * @return List of <i>parsed parts</i> representing the text.
+     * @throws IllegalArgumentException If either arguments are {@code null}.
+     * @throws StringFragmentsException If text contains a placeholder opening (prefix) with a closing suffix.
+     */
+    public Fragments parseParallel(CharSequence text, ForkJoinPool pool)
+            throws IllegalArgumentException, StringFragmentsException {
+        Asserts.notNull(text, "Text cannot be null.");
+        Asserts.notNull(pool, "Pool cannot be null.");
+
+        String str = text.toString();
+        List<Integer> boundaries = splitBoundaries(str, pool.getParallelism());
+        if (boundaries.size() <= 2) {
+            return parsePattern(str);
+        }
+
+        // Parse all chunks concurrently.
+        List<ChunkTask> tasks = new ArrayList<>(boundaries.size() - 1);
+        for (int index = 1; index < boundaries.size(); index++) {
+            tasks.add(new ChunkTask(this, str, boundaries.get(index - 1), boundaries.get(index)));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        // Stitch chunks in order. A chunk can be used as-is only if the previous chunk stopped exactly where this
+        // chunk starts; otherwise, it is parsed again from the actual offset.
+        List<Fragment> fragments = new ArrayList<>();
+        int offset = 0;
+        for (ChunkTask task : tasks) {
+            Chunk chunk = task.join();
+            if (chunk.to() <= offset) {
+                // Entire chunk was consumed by a token of a previous chunk.
+                continue;
+            }
+            if (chunk.from() != offset) {
+                chunk = parseChunk(str, offset, chunk.to());
+            }
+            if (chunk.error() != null) {
+                throw chunk.error();
+            }
 
-                // If we find a token prefix, the text block ends at that beginning.
-                // If we do not find a token prefix -- we'll consume the string to its end.
-                int textBlockEndOffset = tokenStartIndex > -1 ? tokenStartIndex : text.length();
+            appendChunk(str, fragments, chunk.fragments());
+            offset = chunk.end();
+        }
+
+        return new Fragments(str, fragments);
+    }
+
+    /**
+     * Parse a range of a text. Parsing starts at <i>from</i> (which is assumed not to be inside a token) and stops when
+     * no token begins before <i>to</i>. A token beginning before <i>to</i> is parsed as a whole, even if it ends beyond
+     * <i>to</i>.
+     *
+     * @param text      Text to parse.
+     * @param from      Offset to start parsing at, inclusive.
+     * @param to        Offset to stop parsing at, exclusive.
+     * @param fragments List to add fragments to.
+     * @return Offset the parsing actually stopped at. May be greater than <i>to</i> if the last token ends beyond it.
+     * @throws StringFragmentsException If text contains a placeholder opening (prefix) with a closing suffix.
+     */
+    private int parseRange(String text, int from, int to, List<Fragment> fragments) throws StringFragmentsException {
+        int currentOffset = from;
 
-                // If the current text block is not empty, create a new text fragment.
-                if (textBlockEndOffset > currentOffset) {
-                    fragments.add(new TextFragment(
-                            text.substring(currentOffset, textBlockEndOffset),
-                            currentOffset,
-                            textBlockEndOffset));
+        while (currentOffset < to) {
+            // Search for the next occurrence of token prefix.
+            int tokenStartIndex = StringScanner.findSubstring(text, prefixMatcher, currentOffset,
+                    StringScanner.DEFAULT_ESCAPE_CHARACTER);
+            if (tokenStartIndex >= to) {
+                tokenStartIndex = -1;
+            }
+
+            // If we find a token prefix, the text block ends at that beginning.
+            // If we do not find a token prefix -- we'll consume the range to its end.
+            int textBlockEndOffset = tokenStartIndex > -1 ? tokenStartIndex : to;
+
+            // If the current text block is not empty, create a new text fragment.
+            if (textBlockEndOffset > currentOffset) {
+                fragments.add(new TextFragment(
+                        text.substring(currentOffset, textBlockEndOffset),
+                        currentOffset,
+                        textBlockEndOffset));
+            }
+            currentOffset = textBlockEndOffset;
+
+            //
+            // If we detected a token prefix, search for the token's suffix.
+            //
+            if (tokenStartIndex > -1) {
+                int tokenEndIndex = StringScanner.findSubstring(text, suffixMatcher,
+                        tokenStartIndex + tokenPrefix.length(),
+                        StringScanner.DEFAULT_ESCAPE_CHARACTER);
+                if (tokenEndIndex == -1) {
+                    // Error !!! Opening token prefix without closing suffix.
+                    throw new StringFragmentsException("Opening brackets '{' at offset "
+                            + tokenStartIndex
+                            + " without a matching closing brackets '}'."
+                            , tokenStartIndex);
                 }
+                fragments.add(new TokenFragment(
+                        text.substring(tokenStartIndex + tokenPrefix.length(),
+                                tokenEndIndex),
+                        tokenStartIndex,
+                        tokenEndIndex));
+                currentOffset = tokenEndIndex + tokenSuffix.length();
+            }
+        }
+
+        return currentOffset;
+    }
+
+    /**
+     * Parse a single chunk of a text, capturing a parsing error rather than throwing it.
+     *
+     * @param text Text to parse.
+     * @param from Offset of chunk start, inclusive.
+     * @param to   Offset of chunk end, exclusive.
+     * @return Parsed chunk.
+     */
+    private Chunk parseChunk(String text, int from, int to) {
+        List<Fragment> fragments = new ArrayList<>();
+        try {
+            int end = parseRange(text, from, to, fragments);
+            return new Chunk(from, to, fragments, end, null);
+        } catch (StringFragmentsException ex) {
+            return new Chunk(from, to, fragments, to, ex);
+        }
+    }
 
-                //
-                // If we detected a token prefix, search for the token's suffix.
-                //
-                if (tokenStartIndex > -1) {
-                    int tokenEndIndex = finder.find(tokenSuffix);
-                    if (tokenEndIndex == -1) {
-                        // Error !!! Opening token prefix without closing suffix.
-                        throw new StringFragmentsException("Opening brackets '{' at offset "
-                                + tokenStartIndex
-                                + " without a matching closing brackets '}'."
-                                , tokenStartIndex);
-                    }
-                    fragments.add(new TokenFragment(
-                            text.substring(tokenStartIndex + tokenPrefix.length(),
-                                    tokenEndIndex),
-                            tokenStartIndex,
-                            tokenEndIndex));
-                    currentOffset = tokenEndIndex + 1;
+    /**
+     * Calculate offsets to split a text at, for parallel parsing. Each inner boundary immediately follows an
+     * occurrence of the token suffix.
+     *
+     * @param text        Text to split.
+     * @param parallelism Number of available workers.
+     * @return Ordered list of boundaries, starting at 0 and ending with text length.
+     */
+    private List<Integer> splitBoundaries(String text, int parallelism) {
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+
+        if (parallelism > 1 && text.length() >= PARALLEL_THRESHOLD) {
+            // Create a few chunks per worker, to balance uneven chunks.
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, text.length() / (parallelism * CHUNKS_PER_WORKER));
+            int candidate = chunkSize;
+            while (candidate < text.length()) {
+                int suffixIndex = StringScanner.findSubstring(text, suffixMatcher, candidate,
+                        StringScanner.DEFAULT_ESCAPE_CHARACTER);
+                if (suffixIndex == -1 || suffixIndex + tokenSuffix.length() >= text.length()) {
+                    break;
                 }
+                int boundary = suffixIndex + tokenSuffix.length();
+                boundaries.add(boundary);
+                candidate = boundary + chunkSize;
             }
         }
-        return new Fragments(text, fragments);
+
+        boundaries.add(text.length());
+        return boundaries;
+    }
+
+    /**
+     * Append fragments of a chunk, merging a text fragment that spans the boundary between two chunks.
+     *
+     * @param text      Parsed text.
+     * @param fragments Fragments accumulated so far.
+     * @param chunk     Fragments of the next chunk.
+     */
+    private static void appendChunk(String text, List<Fragment> fragments, List<Fragment> chunk) {
+        if (!fragments.isEmpty() && !chunk.isEmpty()) {
+            Fragment last = fragments.get(fragments.size() - 1);
+            Fragment first = chunk.get(0);
+            if (last instanceof TextFragment && first instanceof TextFragment && last.endOffset == first.startOffset) {
+                fragments.set(fragments.size() - 1, new TextFragment(
+                        text.substring(last.startOffset, first.endOffset),
+                        last.startOffset,
+                        first.endOffset));
+                fragments.addAll(chunk.subList(1, chunk.size()));
+                return;
+            }
+        }
+        fragments.addAll(chunk);
     }
 
     public String getTokenPrefix() {
@@ -144,6 +342,43 @@ public class StringFragmentator {
     public String getTokenSuffix() {
         return tokenSuffix;
     }
+
+    /**
+     * Outcome of parsing a single chunk.
+     *
+     * @param from      Offset of chunk start, inclusive.
+     * @param to        Offset of chunk end, exclusive.
+     * @param fragments Fragments parsed.
+     * @param end       Offset the parsing actually stopped at.
+     * @param error     Parsing error, if any.
+     */
+    private record Chunk(int from, int to, List<Fragment> fragments, int end, StringFragmentsException error) {
+    }
+
+    /**
+     * A fork-join task parsing a single chunk.
+     */
+    private static final class ChunkTask extends RecursiveTask<Chunk> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final StringFragmentator fragmentator;
+        private final String text;
+        private final int from;
+        private final int to;
+
+        ChunkTask(StringFragmentator fragmentator, String text, int from, int to) {
+            this.fragmentator = fragmentator;
+            this.text = text;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Chunk compute() {
+            return fragmentator.parseChunk(text, from, to);
+        }
+    }
 }
 
 
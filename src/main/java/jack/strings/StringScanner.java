@@ -208,6 +208,7 @@ public class StringScanner {
             result = offset = str.indexOf(substr, offset);
             if (offset > 0 && str.charAt(offset - 1) == escapeCharacter) {
                 // We found a match, but it is disqualified, as the match is prefixed by an escape character.
+                result = -1;
                 offset++;
             } else {
                 break;
@@ -217,6 +218,30 @@ public class StringScanner {
         return result;
     }
 
+    /**
+     * Search for a non-escaped occurrence of a pattern, using a precompiled <i>matcher</i>. This is equivalent to
+     * {@link #findSubstring(String, String, int, char)}, but avoids re-processing the pattern on each call.
+     *
+     * @param str             String to search within.
+     * @param matcher         Matcher of substring to look for.
+     * @param offset          Offset to start with. The offset starts at 0.
+     * @param escapeCharacter An escape character.
+     * @return Location of first occurrence (starting at <i>offset</i>) or -1 if no such substring is found.
+     */
+    static int findSubstring(String str, SubstringMatcher matcher, int offset, char escapeCharacter) {
+        while (offset + matcher.length() - 1 < str.length()) {
+            offset = matcher.indexOf(str, offset);
+            if (offset > 0 && str.charAt(offset - 1) == escapeCharacter) {
+                // We found a match, but it is disqualified, as the match is prefixed by an escape character.
+                offset++;
+            } else {
+                return offset;
+            }
+        }
+
+        return -1;
+    }
+
     /**
      * Find the next <i>substr</i> is our string.
      *
@@ -0,0 +1,155 @@
+package jack.strings;
+
+import jack.utils.Asserts;
+
+import java.util.Arrays;
+
+/**
+ * <p>Locates occurrences of a fixed pattern within strings. The matcher is created once per pattern (e.g., per token
+ * prefix or suffix) and reused for many searches.
+ * </p>
+ * <p>Patterns longer than {@link #HORSPOOL_THRESHOLD} characters are searched using Boyer-Moore-Horspool, with a skip
+ * table computed upfront. Such a search skips up to the pattern length on a mismatch, rather than advancing one
+ * character at a time. Like other Boyer-Moore variants, its worst case is still proportional to text length times
+ * pattern length; comparing the first character before the rest of the pattern (as suggested by Raita) rules out the
+ * most common form of that worst case.
+ * </p>
+ * Shorter patterns are searched using {@link String#indexOf(String, int)}. The JVM implements it as a vectorized
+ * intrinsic, which outperforms Horspool for short patterns even on their worst-case inputs (see
+ * {@code SubstringMatcherBenchmark} in test sources).
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+final class SubstringMatcher {
+
+    /**
+     * Patterns longer than this threshold are searched using Boyer-Moore-Horspool.
+     */
+    static final int HORSPOOL_THRESHOLD = 32;
+
+    /**
+     * Size of skip table. Characters are mapped into the table by their lower bits.
+     */
+    private static final int SKIP_TABLE_SIZE = 256;
+
+    /**
+     * Pattern to search for.
+     */
+    private final String pattern;
+
+    /**
+     * Characters of pattern.
+     */
+    private final char[] chars;
+
+    /**
+     * Horspool's skip table -- the distance to shift the pattern by, based on the text character aligned with the
+     * last pattern character. Characters sharing the same table entry keep the shortest distance among them, which
+     * is always a safe shift. {@code null} if this matcher delegates to {@link String#indexOf(String, int)}.
+     */
+    private final int[] skip;
+
+    /**
+     * Class constructor.
+     *
+     * @param pattern Pattern to search for.
+     */
+    private SubstringMatcher(String pattern, boolean horspool) {
+        this.pattern = pattern;
+        this.chars = pattern.toCharArray();
+
+        if (horspool) {
+            int last = chars.length - 1;
+            skip = new int[SKIP_TABLE_SIZE];
+            Arrays.fill(skip, chars.length);
+            for (int index = 0; index < last; index++) {
+                skip[chars[index] & (SKIP_TABLE_SIZE - 1)] = last - index;
+            }
+        } else {
+            skip = null;
+        }
+    }
+
+    /**
+     * Create a new matcher.
+     *
+     * @param pattern Pattern to search for.
+     * @return New matcher.
+     * @throws IllegalArgumentException If <i>pattern</i> is {@code null} or empty.
+     */
+    static SubstringMatcher of(String pattern) throws IllegalArgumentException {
+        Asserts.notEmpty(pattern, "Pattern cannot be null or empty.");
+        return new SubstringMatcher(pattern, pattern.length() > HORSPOOL_THRESHOLD);
+    }
+
+    /**
+     * Create a new matcher that always uses Boyer-Moore-Horspool, regardless of pattern length.
+     *
+     * @param pattern Pattern to search for.
+     * @return New matcher.
+     * @throws IllegalArgumentException If <i>pattern</i> is {@code null} or empty.
+     */
+    static SubstringMatcher horspool(String pattern) throws IllegalArgumentException {
+        Asserts.notEmpty(pattern, "Pattern cannot be null or empty.");
+        return new SubstringMatcher(pattern, true);
+    }
+
+    /**
+     * Search for the first occurrence of pattern within a given string.
+     *
+     * @param str    String to search within.
+     * @param offset Offset to start with.
+     * @return Location of first occurrence (starting at <i>offset</i>) or -1 if no occurrence is found.
+     */
+    int indexOf(String str, int offset) {
+        if (skip == null) {
+            return str.indexOf(pattern, offset);
+        }
+
+        int last = chars.length - 1;
+        char lastChar = chars[last];
+        int limit = str.length() - chars.length;
+        int index = Math.max(offset, 0);
+
+        while (index <= limit) {
+            char c = str.charAt(index + last);
+            if (c == lastChar && str.charAt(index) == chars[0] && matchesAt(str, index)) {
+                return index;
+            }
+            index += skip[c & (SKIP_TABLE_SIZE - 1)];
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return Length of pattern.
+     */
+    int length() {
+        return chars.length;
+    }
+
+    /**
+     * @return Pattern this matcher searches for.
+     */
+    String pattern() {
+        return pattern;
+    }
+
+    /**
+     * Test whether pattern occurs at a given offset, given that its first and last characters already matched.
+     *
+     * @param str    String to test.
+     * @param offset Offset of a possible occurrence.
+     * @return {@code true} if pattern occurs at <i>offset</i>, {@code false} if not.
+     */
+    private boolean matchesAt(String str, int offset) {
+        for (int index = chars.length - 2; index > 0; index--) {
+            if (str.charAt(offset + index) != chars[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
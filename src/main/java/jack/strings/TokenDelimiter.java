@@ -0,0 +1,28 @@
+package jack.strings;
+
+import jack.utils.Asserts;
+
+/**
+ * Defines a single kind of token for {@link MultiStringFragmentator}, by its prefix and suffix (e.g., <i>${</i> and
+ * <i>}</i>).
+ *
+ * @param prefix A token prefix, marks a beginning of a token.
+ * @param suffix A token suffix, marks an ending of a token.
+ * @param kind   Kind of token, reported by each {@link TokenFragment#kind parsed token}.
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public record TokenDelimiter(String prefix, String suffix, String kind) {
+
+    /**
+     * Class constructor.
+     *
+     * @throws IllegalArgumentException If either <i>prefix</i> or <i>suffix</i> are {@code null} or empty, or if
+     *                                  <i>kind</i> is {@code null}.
+     */
+    public TokenDelimiter {
+        Asserts.notEmpty(prefix, "Token prefix cannot be null or empty.");
+        Asserts.notEmpty(suffix, "Token suffix cannot be null or empty.");
+        Asserts.notNull(kind, "Token kind cannot be null.");
+    }
+}
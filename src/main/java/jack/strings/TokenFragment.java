@@ -1,5 +1,7 @@
 package jack.strings;
 
+import java.util.Objects;
+
 /**
  * This fragment represents a token within a string.
  *
@@ -8,6 +10,13 @@ package jack.strings;
  */
 public final class TokenFragment extends Fragment {
 
+    /**
+     * Kind of token, as configured by a {@link TokenDelimiter} (e.g., <i>var</i> for <i>${...}</i> and <i>expr</i>
+     * for <i>#{...}</i>). May be {@code null} if the token was parsed by a fragmentator with a single pair of prefix
+     * and suffix.
+     */
+    public final String kind;
+
     /**
      * Class constructor.
      *
@@ -16,6 +25,29 @@ public final class TokenFragment extends Fragment {
      * @param endOffset   Ending offset, inclusive, of this fragment within the parent string.
      */
     public TokenFragment(String contents, int startOffset, int endOffset) {
+        this(contents, startOffset, endOffset, null);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param contents    Token contents (excluding token's prefix and suffix).
+     * @param startOffset Starting offset, inclusive, of this fragment within the parent string.
+     * @param endOffset   Ending offset, inclusive, of this fragment within the parent string.
+     * @param kind        Kind of token. May be {@code null}.
+     */
+    public TokenFragment(String contents, int startOffset, int endOffset, String kind) {
         super(contents, startOffset, endOffset);
+        this.kind = kind;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return super.equals(o) && Objects.equals(kind, ((TokenFragment) o).kind);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hashCode(kind);
     }
 }
@@ -0,0 +1,104 @@
+package jack.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A collection of test cases for {@link ConcurrentTree} and {@link ConcurrentTreeNode}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class ConcurrentTreeTest {
+
+    /**
+     * Test that nodes can be found, removed, and that children data preserves insertion order.
+     */
+    @Test
+    @DisplayName("Test should find and remove nodes")
+    public void testShouldFindAndRemoveNodes() {
+        ConcurrentTree<String, String> tree = new ConcurrentTree<>();
+        ConcurrentTreeNode<String, String> nodeA = tree.getRoot().add("1", "A");
+        tree.getRoot().add("2", "B");
+        tree.getRoot().add("3", "C");
+        nodeA.add("11", "AA");
+
+        assertThat(tree.getNode("1", "11").getData()).isEqualTo("AA");
+        assertThat(tree.getRoot().getChildrenData()).containsExactly("A", "B", "C");
+
+        assertThat(tree.remove("1", "11")).isTrue();
+        assertThat(tree.remove("1", "11")).isFalse();
+        assertThat(tree.remove("9", "11")).isFalse();
+        assertThat(tree.getNode("1", "11")).isNull();
+    }
+
+    /**
+     * Test that concurrent creation of the same paths yields a single node per path.
+     */
+    @Test
+    @DisplayName("Test should create nodes concurrently")
+    public void testShouldCreateNodesConcurrently() throws Exception {
+        ConcurrentTree<Integer, String> tree = new ConcurrentTree<>();
+        Set<ConcurrentTreeNode<Integer, String>> created = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int index = 0; index < 1000; index++) {
+                    created.add(tree.getOrCreateNode(index % 10, index));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(created).hasSize(1000);
+        assertThat(tree.getNode(3, 13)).isNotNull();
+    }
+
+    /**
+     * Test that a node created while its ancestor is being removed is created again, under an attached ancestor.
+     */
+    @Test
+    @DisplayName("Test should not create nodes under removed subtree")
+    public void testShouldNotCreateUnderRemovedSubtree() {
+        ConcurrentTree<Object, String> tree = new ConcurrentTree<>();
+        tree.getOrCreateNode("a", "sibling");
+
+        // Remove "a" while its children are being searched for this key (i.e., after "a" was reached).
+        boolean[] removed = new boolean[1];
+        Object key = new Object() {
+            @Override
+            public int hashCode() {
+                if (!removed[0]) {
+                    removed[0] = true;
+                    assertThat(tree.remove("a")).isTrue();
+                }
+                return 1;
+            }
+        };
+
+        ConcurrentTreeNode<Object, String> node = tree.getOrCreateNode("a", key);
+
+        assertThat(removed[0]).isTrue();
+        assertThat(tree.getNode("a", key)).isSameAs(node);
+        assertThat(tree.getNode("a", "sibling")).isNull();
+    }
+}
@@ -0,0 +1,128 @@
+package jack.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A collection of test cases for {@link TreeBinaryFormat} and {@link MappedTree}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class MappedTreeTest {
+
+    /**
+     * Test that a tree written to a file can be mapped and queried.
+     */
+    @Test
+    @DisplayName("Test should map written tree")
+    public void testShouldMapWrittenTree() throws IOException {
+        Path file = Files.createTempFile("tree", ".bin");
+        try {
+            TreeBinaryFormat.write(sampleTree(), TreeDataCodec.strings(), file);
+            MappedTree<String> tree = MappedTree.open(file, TreeDataCodec.strings());
+
+            assertThat(tree.size()).isEqualTo(6);
+            assertThat(tree.getRoot().getData()).isEqualTo("root");
+            assertThat(tree.getNode("a", "שלום").getData()).isEqualTo("AB");
+            assertThat(tree.getNode("a", "שלום").getKey()).isEqualTo("שלום");
+            assertThat(tree.getNode("b").getData()).isNull();
+            assertThat(tree.getNode("a", "c")).isNull();
+            assertThat(tree.getNode("a").getChildrenData()).containsExactly("AA", "AB");
+            assertThat(tree.getNode("a").getChildCount()).isEqualTo(2);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test that a mapped tree materializes into an equivalent tree.
+     */
+    @Test
+    @DisplayName("Test should materialize tree")
+    public void testShouldMaterializeTree() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TreeBinaryFormat.write(sampleTree(), TreeDataCodec.strings(), out);
+
+        Tree<String, String> tree = MappedTree.of(ByteBuffer.wrap(out.toByteArray()), TreeDataCodec.strings()).toTree();
+
+        assertThat(describe(tree)).isEqualTo(describe(sampleTree()));
+    }
+
+    /**
+     * Test that children of a wide node are found by key, including keys sharing a hash code, and keep their order.
+     */
+    @Test
+    @DisplayName("Test should find children of wide node")
+    public void testShouldFindChildrenOfWideNode() throws IOException {
+        Tree<String, String> source = new Tree<>();
+        List<String> expected = new ArrayList<>();
+        for (int index = 0; index < 1500; index++) {
+            source.getRoot().add("key" + index, "value" + index);
+            expected.add("value" + index);
+        }
+        // "Aa" and "BB" share a hash code.
+        source.getRoot().add("Aa", "Aa");
+        source.getRoot().add("BB", "BB");
+        expected.add("Aa");
+        expected.add("BB");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TreeBinaryFormat.write(source, TreeDataCodec.strings(), out);
+        MappedTree<String> tree = MappedTree.of(ByteBuffer.wrap(out.toByteArray()), TreeDataCodec.strings());
+
+        for (int index = 0; index < 1500; index++) {
+            assertThat(tree.getNode("key" + index).getData()).isEqualTo("value" + index);
+        }
+        assertThat(tree.getNode("Aa").getData()).isEqualTo("Aa");
+        assertThat(tree.getNode("BB").getData()).isEqualTo("BB");
+        assertThat(tree.getNode("C#")).isNull();
+        assertThat(tree.getNode("key1500")).isNull();
+        assertThat(tree.getRoot().getChildrenData()).isEqualTo(expected);
+    }
+
+    /**
+     * Test that a buffer not holding a tree is rejected.
+     */
+    @Test
+    @DisplayName("Test should reject invalid tree")
+    public void testShouldRejectInvalidTree() {
+        assertThatThrownBy(() -> MappedTree.of(ByteBuffer.allocate(64), TreeDataCodec.strings()))
+                .isInstanceOf(IOException.class);
+    }
+
+    /**
+     * @return A sample tree with a non-ASCII key, a shared key and a node without data.
+     */
+    private static Tree<String, String> sampleTree() {
+        Tree<String, String> tree = new Tree<>();
+        tree.getRoot().setData("root");
+        TreeNode<String, String> nodeA = tree.getRoot().add("a", "A");
+        TreeNode<String, String> nodeB = tree.getRoot().add("b", null);
+        nodeA.add("a", "AA");
+        nodeA.add("שלום", "AB");
+        nodeB.add("a", "BA");
+        return tree;
+    }
+
+    /**
+     * @param tree Tree to describe.
+     * @return Paths and data of all nodes, depth-first.
+     */
+    private static List<String> describe(Tree<String, String> tree) {
+        List<String> result = new ArrayList<>();
+        tree.forEachNode((path, node) -> result.add(path + "=" + node.getData()));
+        return result;
+    }
+}
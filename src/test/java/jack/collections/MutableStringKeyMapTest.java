@@ -4,6 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -111,4 +116,168 @@ public class MutableStringKeyMapTest {
         // Assert that regardless of the key casing, the same object is returned.
         assertThat((Object) map.get(key2)).isEqualTo(STRING_VALUE);
     }
+
+    /**
+     * Test that key case-insensitivity does not depend on the default locale (e.g., Turkish dotless i).
+     */
+    @Test
+    @DisplayName("Test should ignore key case regardless of locale")
+    public void testShouldIgnoreKeyCaseRegardlessOfLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            map.add("title", STRING_VALUE);
+
+            assertThat(map.containsKey("TITLE")).isTrue();
+            assertThat(map.getState()).containsKey("TITLE");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    /**
+     * Test that all values remain reachable after the table grows.
+     */
+    @Test
+    @DisplayName("Test should keep all values when growing")
+    public void testShouldKeepAllValuesWhenGrowing() {
+        for (int index = 0; index < 1000; index++) {
+            assertThat(map.add("key" + index, index)).isTrue();
+        }
+        assertThat(map.add("KEY500", -1)).isFalse();
+
+        for (int index = 0; index < 1000; index++) {
+            assertThat(map.getAsInteger("Key" + index)).isEqualTo(index == 500 ? -1 : index);
+        }
+        assertThat(map.getState()).hasSize(1000);
+    }
+
+    /**
+     * Test that primitive values are readable both by primitive accessors and as boxed objects.
+     */
+    @Test
+    @DisplayName("Test should store primitive values")
+    public void testShouldStorePrimitiveValues() {
+        assertThat(map.putInt("int", INT_VALUE)).isTrue();
+        assertThat(map.putLong("long", LONG_VALUE)).isTrue();
+        assertThat(map.putDouble("double", DOUBLE_VALUE)).isTrue();
+        assertThat(map.putBoolean("boolean", BOOLEAN_VALUE)).isTrue();
+        assertThat(map.putLong("LONG", Long.MAX_VALUE)).isFalse();
+
+        assertThat(map.getAsInteger("INT")).isEqualTo(INT_VALUE);
+        assertThat(map.getAsLong("long")).isEqualTo(Long.MAX_VALUE);
+        assertThat(map.getAsDouble("double")).isEqualTo(DOUBLE_VALUE);
+        assertThat(map.getAsFloat("double")).isEqualTo((float) DOUBLE_VALUE);
+        assertThat(map.getAsLong("int")).isEqualTo((long) INT_VALUE);
+        assertThat(map.getAsBoolean("boolean")).isEqualTo(BOOLEAN_VALUE);
+        assertThat((Object) map.get("int")).isEqualTo(INT_VALUE);
+        assertThat((Object) map.get("boolean")).isEqualTo(BOOLEAN_VALUE);
+        assertThat(map.getState()).hasSize(4);
+    }
+
+    /**
+     * Test that primitive accessors reject values of incompatible types.
+     */
+    @Test
+    @DisplayName("Test should fail on primitive type mismatch")
+    public void testShouldFailOnPrimitiveTypeMismatch() {
+        map.putBoolean("boolean", BOOLEAN_VALUE);
+        map.putInt("int", INT_VALUE);
+
+        assertThatThrownBy(() -> map.getAsLong("boolean")).isInstanceOf(TypeMismatchException.class);
+        assertThatThrownBy(() -> map.getAsBoolean("int")).isInstanceOf(TypeMismatchException.class);
+    }
+
+    /**
+     * Test that a frozen snapshot holds all values, ignores key case and is not affected by later changes.
+     */
+    @Test
+    @DisplayName("Test should freeze map")
+    public void testShouldFreezeMap() {
+        for (int index = 0; index < 1000; index++) {
+            map.add("key" + index, "value" + index);
+        }
+        map.putLong(KEY, LONG_VALUE);
+        map.putBoolean("flag", BOOLEAN_VALUE);
+
+        ReadOnlyMap<String> frozen = map.freeze();
+        map.add("key0", "changed");
+        map.add("newKey", STRING_VALUE);
+
+        for (int index = 0; index < 1000; index++) {
+            assertThat(frozen.getAsString("KEY" + index)).isEqualTo("value" + index);
+        }
+        assertThat(frozen.getAsLong(KEY.toUpperCase())).isEqualTo(LONG_VALUE);
+        assertThat(frozen.getAsBoolean("flag")).isEqualTo(BOOLEAN_VALUE);
+        assertThat(frozen.containsKey("newKey")).isFalse();
+        assertThatThrownBy(() -> frozen.get("newKey")).isInstanceOf(MissingKeyException.class);
+        assertThat(new MutableStringKeyMap().freeze().containsKey(KEY)).isFalse();
+    }
+
+    /**
+     * Test that snapshots are not affected by later updates, insertions or growth of the map.
+     */
+    @Test
+    @DisplayName("Test should take isolated snapshots")
+    public void testShouldTakeIsolatedSnapshots() {
+        map.add(KEY, STRING_VALUE);
+        map.putInt("count", INT_VALUE);
+
+        ReadOnlyMap<String> snapshot = map.snapshot();
+        Map<String, Object> state = map.getState();
+
+        map.add(KEY, "changed");
+        map.putInt("count", INT_VALUE + 1);
+        for (int index = 0; index < 100; index++) {
+            map.add("key" + index, index);
+        }
+
+        assertThat(snapshot.getAsString(KEY)).isEqualTo(STRING_VALUE);
+        assertThat(snapshot.getAsInteger("COUNT")).isEqualTo(INT_VALUE);
+        assertThat(snapshot.containsKey("key0")).isFalse();
+        assertThat(state).hasSize(2);
+        assertThat(state.get(KEY.toUpperCase())).isEqualTo(STRING_VALUE);
+        assertThat(map.getAsString(KEY)).isEqualTo("changed");
+        assertThat(map.getState()).hasSize(102);
+    }
+
+    /**
+     * Test that the state returned by {@link MutableStringKeyMap#getState()} is a modifiable copy.
+     */
+    @Test
+    @DisplayName("Test should return modifiable copy of state")
+    public void testShouldReturnModifiableState() {
+        map.add(KEY, STRING_VALUE);
+
+        Map<String, Object> state = map.getState();
+        state.put("other", STRING_VALUE);
+
+        assertThat(state).hasSize(2);
+        assertThat(map.containsKey("other")).isFalse();
+    }
+
+    /**
+     * Test that a snapshot taken before each write keeps its own state, across many chunks of a large map.
+     */
+    @Test
+    @DisplayName("Test should keep every snapshot of large map")
+    public void testShouldKeepEverySnapshot() {
+        List<ReadOnlyMap<String>> snapshots = new ArrayList<>();
+        for (int index = 0; index < 3000; index++) {
+            snapshots.add(map.snapshot());
+            map.putInt("key" + index, index);
+        }
+        map.putInt("key0", -1);
+
+        for (int index = 0; index < 3000; index += 7) {
+            ReadOnlyMap<String> snapshot = snapshots.get(index);
+            assertThat(snapshot.containsKey("key" + index)).isFalse();
+            if (index > 0) {
+                assertThat(snapshot.getAsInteger("KEY0")).isEqualTo(0);
+                assertThat(snapshot.getAsInteger("KEY" + (index - 1))).isEqualTo(index - 1);
+            }
+        }
+        assertThat(map.getAsInteger("key0")).isEqualTo(-1);
+        assertThat(map.getAsInteger("key2999")).isEqualTo(2999);
+    }
 }
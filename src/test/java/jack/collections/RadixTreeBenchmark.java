@@ -0,0 +1,85 @@
+package jack.collections;
+
+/**
+ * <p>A standalone benchmark comparing {@link RadixTree} with {@link Tree} (holding a node per path segment), for
+ * 1M hierarchical keys. Reports build time, lookup time and retained heap of each structure.
+ * </p>
+ * This is not a unit test. Run it manually (after compiling test sources), e.g.:
+ * <pre>
+ *     java -Xmx4g -cp build/classes/java/main:build/classes/java/test jack.collections.RadixTreeBenchmark
+ * </pre>
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class RadixTreeBenchmark {
+
+    /**
+     * Number of keys.
+     */
+    private static final int KEY_COUNT = 1_000_000;
+
+    /**
+     * Number of warm-up and measured rounds.
+     */
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        String[] keys = new String[KEY_COUNT];
+        String[][] paths = new String[KEY_COUNT][];
+        for (int index = 0; index < KEY_COUNT; index++) {
+            keys[index] = "services/service-" + (index % 100) + "/region-" + (index % 7) + "/node-" + index + "/config";
+            paths[index] = keys[index].split("/");
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long heap = usedHeap();
+            long start = System.nanoTime();
+            Tree<String, Integer> tree = new Tree<>();
+            for (int index = 0; index < KEY_COUNT; index++) {
+                tree.getOrCreateNode(paths[index]).setData(index);
+            }
+            long built = System.nanoTime();
+            // Measure heap while the tree is still in use (by the lookups below).
+            long retained = usedHeap() - heap;
+            long lookup = System.nanoTime();
+            long sum = 0;
+            for (int index = 0; index < KEY_COUNT; index++) {
+                sum += tree.getNode(paths[index]).getData();
+            }
+            long looked = System.nanoTime();
+            report("Tree", built - start, looked - lookup, retained, sum);
+            tree = null;
+
+            heap = usedHeap();
+            start = System.nanoTime();
+            RadixTree<Integer> radixTree = new RadixTree<>();
+            for (int index = 0; index < KEY_COUNT; index++) {
+                radixTree.put(keys[index], index);
+            }
+            built = System.nanoTime();
+            retained = usedHeap() - heap;
+            lookup = System.nanoTime();
+            sum = 0;
+            for (int index = 0; index < KEY_COUNT; index++) {
+                sum += radixTree.get(keys[index]);
+            }
+            looked = System.nanoTime();
+            report("RadixTree", built - start, looked - lookup, retained, sum);
+            radixTree = null;
+        }
+    }
+
+    private static void report(String name, long buildNanos, long lookupNanos, long bytes, long checksum) {
+        System.out.printf("%-10s build: %5d ms, lookup: %4d ns/key, retained: %4d MB (checksum %d)%n",
+                name, buildNanos / 1_000_000, lookupNanos / KEY_COUNT, bytes >> 20, checksum);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int index = 0; index < 3; index++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
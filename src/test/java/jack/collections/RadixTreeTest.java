@@ -0,0 +1,122 @@
+package jack.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A collection of test cases for {@link RadixTree}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class RadixTreeTest {
+
+    /**
+     * Test that keys sharing prefixes (including keys that are prefixes of other keys) are stored and found.
+     */
+    @Test
+    @DisplayName("Test should put and get keys")
+    public void testShouldPutAndGetKeys() {
+        RadixTree<String> tree = new RadixTree<>();
+        tree.put("app/users", "users");
+        tree.put("app/user", "user");
+        tree.put("app", "app");
+        tree.put("apple", "apple");
+
+        assertThat(tree.get("app/users")).isEqualTo("users");
+        assertThat(tree.get("app/user")).isEqualTo("user");
+        assertThat(tree.get("app")).isEqualTo("app");
+        assertThat(tree.get("apple")).isEqualTo("apple");
+        assertThat(tree.containsKey("ap")).isFalse();
+        assertThat(tree.containsKey("app/u")).isFalse();
+        assertThat(tree.put("app", "APP")).isEqualTo("app");
+        assertThat(tree.size()).isEqualTo(4);
+
+        tree.getNode("apple").setData("APPLE");
+        assertThat(tree.get("apple")).isEqualTo("APPLE");
+    }
+
+    /**
+     * Test that removing keys keeps remaining keys reachable.
+     */
+    @Test
+    @DisplayName("Test should remove keys")
+    public void testShouldRemoveKeys() {
+        RadixTree<Integer> tree = new RadixTree<>();
+        String[] keys = {"romane", "romanus", "romulus", "rubens", "ruber", "rubicon", "rubicundus", "rom"};
+        for (int index = 0; index < keys.length; index++) {
+            tree.put(keys[index], index);
+        }
+
+        assertThat(tree.remove("roman")).isFalse();
+        assertThat(tree.remove("romanus")).isTrue();
+        assertThat(tree.remove("rom")).isTrue();
+        assertThat(tree.remove("rubens")).isTrue();
+        assertThat(tree.remove("rubens")).isFalse();
+
+        assertThat(tree.size()).isEqualTo(5);
+        assertThat(tree.get("romane")).isEqualTo(0);
+        assertThat(tree.get("romulus")).isEqualTo(2);
+        assertThat(tree.get("ruber")).isEqualTo(4);
+        assertThat(tree.get("rubicundus")).isEqualTo(6);
+        assertThat(tree.containsKey("romanus")).isFalse();
+    }
+
+    /**
+     * Test that the longest key that prefixes a given string is found.
+     */
+    @Test
+    @DisplayName("Test should find longest prefix match")
+    public void testShouldFindLongestPrefixMatch() {
+        RadixTree<String> tree = new RadixTree<>();
+        tree.put("/api", "api");
+        tree.put("/api/v1/users", "users");
+
+        Pair<String, String> match = tree.longestPrefixMatch("/api/v1/user");
+        assertThat(match.first).isEqualTo("/api");
+        assertThat(match.second).isEqualTo("api");
+        assertThat(tree.longestPrefixMatch("/api/v1/users/17").second).isEqualTo("users");
+        assertThat(tree.longestPrefixMatch("/ap")).isNull();
+    }
+
+    /**
+     * Test that a prefix scan returns all keys starting with the prefix, in lexicographic order.
+     */
+    @Test
+    @DisplayName("Test should scan by prefix")
+    public void testShouldScanByPrefix() {
+        RadixTree<String> tree = new RadixTree<>();
+        for (String key : new String[]{"b/2", "a/2", "a/10", "a", "ab", "c"}) {
+            tree.put(key, key.toUpperCase());
+        }
+
+        assertThat(scan(tree, "a")).containsExactly("a", "a/10", "a/2", "ab");
+        assertThat(scan(tree, "a/")).containsExactly("a/10", "a/2");
+        assertThat(scan(tree, "a/1")).containsExactly("a/10");
+        assertThat(scan(tree, "")).containsExactly("a", "a/10", "a/2", "ab", "b/2", "c");
+        assertThat(scan(tree, "a/3")).isEmpty();
+    }
+
+    /**
+     * Collect keys returned by a prefix scan.
+     *
+     * @param tree   Tree to scan.
+     * @param prefix Prefix to scan by.
+     * @return Keys, in order of iteration.
+     */
+    private static List<String> scan(RadixTree<String> tree, String prefix) {
+        List<String> keys = new ArrayList<>();
+        for (Iterator<Pair<String, String>> it = tree.prefixScan(prefix); it.hasNext(); ) {
+            Pair<String, String> pair = it.next();
+            assertThat(pair.second).isEqualTo(pair.first.toUpperCase());
+            keys.add(pair.first);
+        }
+        return keys;
+    }
+}
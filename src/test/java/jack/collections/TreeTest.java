@@ -3,7 +3,12 @@ package jack.collections;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * A collection of test cases for {@link Tree} and {@link TreeNode}.
@@ -54,4 +59,202 @@ public class TreeTest {
 
         assertThat(tree.getNode("A", "B", "C")).isNotNull();
     }
+
+    /**
+     * Test that depth-first and breadth-first iterators visit all nodes in their respective orders.
+     */
+    @Test
+    @DisplayName("Test should traverse depth-first and breadth-first")
+    public void testShouldTraverseTree() {
+        Tree<String, String> tree = sampleTree();
+
+        assertThat(collect(tree.depthFirstIterator())).containsExactly("root", "A", "AA", "AB", "B", "BA");
+        assertThat(collect(tree.breadthFirstIterator())).containsExactly("root", "A", "B", "AA", "AB", "BA");
+    }
+
+    /**
+     * Test that each node is visited along with its path.
+     */
+    @Test
+    @DisplayName("Test should visit nodes with paths")
+    public void testShouldVisitNodesWithPaths() {
+        Tree<String, String> tree = sampleTree();
+        List<String> visited = new ArrayList<>();
+
+        tree.forEachNode((path, node) -> visited.add(String.join("/", path) + "=" + node.getData()));
+
+        assertThat(visited).containsExactly("=root", "a=A", "a/a=AA", "a/b=AB", "b=B", "b/a=BA");
+    }
+
+    /**
+     * Test that very deep trees are traversed without overflowing the call stack.
+     */
+    @Test
+    @DisplayName("Test should traverse deep tree")
+    public void testShouldTraverseDeepTree() {
+        Tree<Integer, Integer> tree = new Tree<>();
+        TreeNode<Integer, Integer> node = tree.getRoot();
+        for (int depth = 0; depth < 200_000; depth++) {
+            node = node.add(depth, depth);
+        }
+
+        int[] count = new int[1];
+        tree.forEachNode((path, visited) -> count[0]++);
+
+        assertThat(count[0]).isEqualTo(200_001);
+        assertThat(tree.stream().count()).isEqualTo(200_001L);
+    }
+
+    /**
+     * Test that a parallel stream visits each node exactly once.
+     */
+    @Test
+    @DisplayName("Test should stream tree in parallel")
+    public void testShouldStreamTreeInParallel() {
+        Tree<Integer, Integer> tree = new Tree<>();
+        long expected = 0;
+        for (int a = 0; a < 50; a++) {
+            for (int b = 0; b < 50; b++) {
+                for (int c = 0; c < 20; c++) {
+                    int value = (a * 50 + b) * 20 + c;
+                    tree.getOrCreateNode(a, b, c).setData(value);
+                    expected += value;
+                }
+            }
+        }
+
+        long sum = tree.stream().parallel()
+                .filter(node -> node.getData() != null)
+                .mapToLong(TreeNode::getData)
+                .sum();
+
+        assertThat(sum).isEqualTo(expected);
+        assertThat(tree.stream().parallel().count()).isEqualTo(1L + 50 + 50 * 50 + 50 * 50 * 20);
+    }
+
+    /**
+     * Test that children keep their insertion order and remain reachable when their number grows beyond the inline
+     * capacity and shrinks back.
+     */
+    @Test
+    @DisplayName("Test should keep children when switching representation")
+    public void testShouldKeepChildrenWhenSwitchingRepresentation() {
+        TreeNode<Integer, Integer> node = new TreeNode<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int index = 0; index < 20; index++) {
+            node.add(index, index);
+            expected.add(index);
+            assertThat(node.getChildrenData()).isEqualTo(expected);
+        }
+
+        node.add(3, 33);
+        expected.set(3, 33);
+        assertThat(node.getChildrenData()).isEqualTo(expected);
+
+        for (int index = 19; index > 0; index--) {
+            assertThat(node.remove(index)).isTrue();
+            assertThat(node.remove(index)).isFalse();
+            expected.remove(index);
+            assertThat(node.getChildrenData()).isEqualTo(expected);
+        }
+        assertThat(node.getNode(0).getData()).isEqualTo(0);
+        assertThat(node.remove(0)).isTrue();
+        assertThat(node.getChildrenData()).isEmpty();
+        assertThat(node.getNode(0)).isNull();
+    }
+
+    /**
+     * Test that subtree aggregates follow changes to data and children.
+     */
+    @Test
+    @DisplayName("Test should maintain subtree aggregates")
+    public void testShouldMaintainAggregates() {
+        Tree<String, Integer> tree = new Tree<>(TreeAggregation.of(0, Integer::sum));
+        tree.getOrCreateNode("books", "fiction").setData(12);
+        tree.getOrCreateNode("books", "poetry").setData(3);
+        tree.getOrCreateNode("music").setData(5);
+
+        assertThat(tree.getNode("books").getAggregate()).isEqualTo(15);
+        assertThat(tree.getRoot().getAggregate()).isEqualTo(20);
+
+        tree.getNode("books").setData(1);
+        tree.getNode("books", "poetry").setData(4);
+        assertThat(tree.getRoot().getAggregate()).isEqualTo(22);
+
+        TreeNode<String, Integer> fiction = tree.getNode("books", "fiction");
+        assertThat(tree.getNode("books").remove("fiction")).isTrue();
+        fiction.setData(100);
+        assertThat(tree.getNode("books").getAggregate()).isEqualTo(5);
+
+        tree.getRoot().add("music", 7);
+        assertThat(tree.getRoot().getAggregate()).isEqualTo(12);
+    }
+
+    /**
+     * Test that an invertible aggregation maintains the aggregates of a very wide node, following the same changes as
+     * a plain one.
+     */
+    @Test
+    @DisplayName("Test should maintain aggregates of wide node")
+    public void testShouldMaintainAggregatesOfWideNode() {
+        Tree<String, Long> invertible = new Tree<>(TreeAggregation.of(0L, Long::sum, (a, b) -> a - b));
+        Tree<String, Long> plain = new Tree<>(TreeAggregation.of(0L, Long::sum));
+        TreeNode<String, Long> category = invertible.getOrCreateNode("books", "fiction");
+        for (long index = 0; index < 100_000; index++) {
+            category.add("item" + index, index);
+        }
+        assertThat(category.getAggregate()).isEqualTo(4_999_950_000L);
+        assertThat(invertible.getRoot().getAggregate()).isEqualTo(4_999_950_000L);
+
+        for (Tree<String, Long> tree : List.of(invertible, plain)) {
+            TreeNode<String, Long> books = tree.getOrCreateNode("books");
+            books.getOrCreateNode("fiction").add("item0", 10L);
+            books.getOrCreateNode("fiction", "item0").setData(20L);
+            books.getOrCreateNode("fiction").setData(5L);
+            books.getOrCreateNode("poetry").add("item0", 7L);
+            books.remove("poetry");
+            books.getOrCreateNode("fiction").remove("item1");
+            tree.getRoot().add("music", 3L);
+        }
+        assertThat(invertible.getRoot().getAggregate()).isEqualTo(4_999_950_000L - 1 + 20 + 5 + 3);
+        assertThat(plain.getRoot().getAggregate()).isEqualTo(20L + 5 + 3);
+        assertThat(invertible.getNode("books").getAggregate()).isEqualTo(4_999_950_000L - 1 + 20 + 5);
+    }
+
+    /**
+     * Test that a plain tree does not report aggregates.
+     */
+    @Test
+    @DisplayName("Test should fail on aggregate without aggregation")
+    public void testShouldFailOnAggregateWithoutAggregation() {
+        Tree<String, Integer> tree = new Tree<>();
+
+        assertThatThrownBy(() -> tree.getRoot().getAggregate()).isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * @return A tree with two levels of children below the root.
+     */
+    private static Tree<String, String> sampleTree() {
+        Tree<String, String> tree = new Tree<>();
+        tree.getRoot().setData("root");
+        TreeNode<String, String> nodeA = tree.getRoot().add("a", "A");
+        TreeNode<String, String> nodeB = tree.getRoot().add("b", "B");
+        nodeA.add("a", "AA");
+        nodeA.add("b", "AB");
+        nodeB.add("a", "BA");
+        return tree;
+    }
+
+    /**
+     * Collect data of nodes returned by an iterator.
+     *
+     * @param iterator Iterator to exhaust.
+     * @return Data of nodes, in order of iteration.
+     */
+    private static List<String> collect(Iterator<TreeNode<String, String>> iterator) {
+        List<String> data = new ArrayList<>();
+        iterator.forEachRemaining(node -> data.add(node.getData()));
+        return data;
+    }
 }
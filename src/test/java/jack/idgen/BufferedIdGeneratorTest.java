@@ -0,0 +1,108 @@
+package jack.idgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for {@link BufferedIdGenerator}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class BufferedIdGeneratorTest {
+
+    /**
+     * Test that identifiers are served from a pre-filled buffer, which is refilled above its low-water mark after
+     * being drained.
+     */
+    @Test
+    @DisplayName("Test should serve identifiers from buffer")
+    public void testShouldServeFromBuffer() throws InterruptedException {
+        try (BufferedIdGenerator generator = new BufferedIdGenerator(counting(), 16, 4)) {
+            awaitSize(generator, 16);
+
+            for (int index = 0; index < 16; index++) {
+                assertThat(generator.generate()).isEqualTo("id-" + index);
+            }
+            awaitSize(generator, 5);
+
+            BufferedIdGenerator.Metrics metrics = generator.metrics();
+            assertThat(metrics.hits()).isEqualTo(16L);
+            assertThat(metrics.misses()).isEqualTo(0L);
+            assertThat(metrics.refilled() >= 21).isTrue();
+            assertThat(metrics.size() > 4).isTrue();
+        }
+    }
+
+    /**
+     * Test that identifiers are unique when taken concurrently, including those generated synchronously on a miss.
+     */
+    @Test
+    @DisplayName("Test should serve unique identifiers concurrently")
+    public void testShouldServeUniqueIdentifiersConcurrently() throws InterruptedException {
+        Set<String> identifiers = ConcurrentHashMap.newKeySet();
+        try (BufferedIdGenerator generator = new BufferedIdGenerator(counting(), 64)) {
+            Thread[] threads = new Thread[4];
+            for (int thread = 0; thread < threads.length; thread++) {
+                threads[thread] = new Thread(() -> {
+                    for (int index = 0; index < 20_000; index++) {
+                        identifiers.add(generator.generate());
+                    }
+                });
+                threads[thread].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            BufferedIdGenerator.Metrics metrics = generator.metrics();
+            assertThat(identifiers.size()).isEqualTo(80_000);
+            assertThat(metrics.hits() + metrics.misses()).isEqualTo(80_000L);
+        }
+    }
+
+    /**
+     * Test that a closed instance serves buffered identifiers, then generates identifiers synchronously.
+     */
+    @Test
+    @DisplayName("Test should generate synchronously after close")
+    public void testShouldGenerateSynchronouslyAfterClose() throws InterruptedException {
+        BufferedIdGenerator generator = new BufferedIdGenerator(counting(), 4, 0);
+        awaitSize(generator, 4);
+        generator.close();
+
+        for (int index = 0; index < 10; index++) {
+            assertThat(generator.generate()).isNotNull();
+        }
+        assertThat(generator.metrics().hits()).isEqualTo(4L);
+        assertThat(generator.metrics().misses()).isEqualTo(6L);
+    }
+
+    /**
+     * @return Thread-safe generator of "id-0", "id-1", ...
+     */
+    private static StringIdGenerator counting() {
+        AtomicLong counter = new AtomicLong();
+        return () -> "id-" + counter.getAndIncrement();
+    }
+
+    /**
+     * Wait until a buffer holds at least a given number of identifiers.
+     *
+     * @param generator Generator to wait for.
+     * @param size      Minimal number of identifiers to wait for.
+     */
+    private static void awaitSize(BufferedIdGenerator generator, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (generator.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(generator.size() >= size).isTrue();
+    }
+}
@@ -0,0 +1,125 @@
+package jack.idgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for {@link DurableSequencialLongIdGenerator}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class DurableSequencialLongIdGeneratorTest {
+
+    /**
+     * Test that a reopened generator resumes after the last block leased, skipping its unused identifiers.
+     */
+    @Test
+    @DisplayName("Test should resume after last leased block")
+    public void testShouldResumeAfterLastBlock() throws IOException {
+        Path file = Files.createTempFile("ids", ".journal");
+        Files.delete(file);
+        try {
+            try (DurableSequencialLongIdGenerator generator = DurableSequencialLongIdGenerator.open(file, 100, 10)) {
+                for (long expected = 100; expected < 115; expected++) {
+                    assertThat(generator.nextLong()).isEqualTo(expected);
+                }
+            }
+
+            try (DurableSequencialLongIdGenerator generator = DurableSequencialLongIdGenerator.open(file, 0, 10)) {
+                assertThat(generator.nextLong()).isEqualTo(120L);
+                long[] identifiers = generator.generateLongs(25);
+                assertThat(identifiers[0]).isEqualTo(121L);
+                assertThat(identifiers[24]).isEqualTo(145L);
+            }
+
+            try (DurableSequencialLongIdGenerator generator = DurableSequencialLongIdGenerator.open(file)) {
+                assertThat(generator.nextLong()).isEqualTo(146L);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test that a slot left corrupted by an interrupted write is ignored in favor of the other slot.
+     */
+    @Test
+    @DisplayName("Test should recover from interrupted journal write")
+    public void testShouldRecoverFromInterruptedWrite() throws IOException {
+        Path file = Files.createTempFile("ids", ".journal");
+        Files.delete(file);
+        try {
+            try (DurableSequencialLongIdGenerator generator = DurableSequencialLongIdGenerator.open(file, 0, 10)) {
+                assertThat(generator.nextLong()).isEqualTo(0L);
+            }
+
+            // Generation 1 (high-water mark 10) is in slot 1. Simulate a torn write of generation 2 into slot 0.
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                ByteBuffer torn = ByteBuffer.allocate(16).putLong(2L).putLong(20L).flip();
+                channel.write(torn, DurableSequencialLongIdGenerator.HEADER_SIZE);
+            }
+
+            try (DurableSequencialLongIdGenerator generator = DurableSequencialLongIdGenerator.open(file, 0, 10)) {
+                assertThat(generator.nextLong()).isEqualTo(10L);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test that a file which is not a journal is rejected, and that a closed generator cannot lease new blocks.
+     */
+    @Test
+    @DisplayName("Test should reject invalid journal and closed generator")
+    public void testShouldRejectInvalidJournal() throws IOException {
+        Path file = Files.createTempFile("ids", ".journal");
+        try {
+            Files.write(file, new byte[]{1, 2, 3});
+            assertThatThrownBy(() -> DurableSequencialLongIdGenerator.open(file)).isInstanceOf(IOException.class);
+
+            Files.delete(file);
+            DurableSequencialLongIdGenerator generator = DurableSequencialLongIdGenerator.open(file, 0, 2);
+            generator.nextLong();
+            generator.close();
+            assertThat(generator.nextLong()).isEqualTo(1L);
+            assertThatThrownBy(generator::nextLong).isInstanceOf(IllegalStateException.class);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test that a journal cannot be opened while another generator uses it, and can be once that generator is closed.
+     */
+    @Test
+    @DisplayName("Test should lock journal")
+    public void testShouldLockJournal() throws IOException {
+        Path file = Files.createTempFile("ids", ".journal");
+        Files.delete(file);
+        try {
+            DurableSequencialLongIdGenerator generator = DurableSequencialLongIdGenerator.open(file, 0, 10);
+            assertThat(generator.nextLong()).isEqualTo(0L);
+            assertThatThrownBy(() -> DurableSequencialLongIdGenerator.open(file, 0, 10))
+                    .isInstanceOf(IOException.class);
+            generator.close();
+
+            try (DurableSequencialLongIdGenerator reopened = DurableSequencialLongIdGenerator.open(file, 0, 10)) {
+                assertThat(reopened.nextLong()).isEqualTo(10L);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package jack.idgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for {@link FastRandomIdGenerator}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class FastRandomIdGeneratorTest {
+
+    /**
+     * Test that generated values have configured length, consist of configured symbols and are unique.
+     */
+    @Test
+    @DisplayName("Test should generate unique values of configured symbols")
+    public void testShouldGenerateConfiguredValues() {
+        FastRandomIdGenerator generator = new FastRandomIdGenerator();
+        Set<String> values = new HashSet<>();
+        for (int index = 0; index < 10_000; index++) {
+            String value = generator.generate();
+            assertThat(value).hasSize(SecureRandomIdGenerator.DEFAULT_IDENTIFIER_LENGTH);
+            for (char c : value.toCharArray()) {
+                assertThat(SecureRandomIdGenerator.DEFAULT_SYMBOL_SET.indexOf(c) >= 0).isTrue();
+            }
+            values.add(value);
+        }
+        assertThat(values.size()).isEqualTo(10_000);
+
+        generator.setLength(8);
+        generator.setSymbols("ab".toCharArray());
+        assertThat(generator.generate().replace("a", "").replace("b", "")).isEqualTo("");
+        assertThat(generator.generate()).hasSize(8);
+    }
+
+    /**
+     * Test that threads, each drawing from its own random generator, produce distinct values.
+     */
+    @Test
+    @DisplayName("Test should generate unique values across threads")
+    public void testShouldGenerateUniqueValuesAcrossThreads() throws InterruptedException {
+        FastRandomIdGenerator generator = new FastRandomIdGenerator(16);
+        Set<String> values = ConcurrentHashMap.newKeySet();
+
+        Thread[] threads = new Thread[4];
+        for (int thread = 0; thread < threads.length; thread++) {
+            threads[thread] = new Thread(() -> {
+                for (int index = 0; index < 5_000; index++) {
+                    values.add(generator.generate());
+                }
+            });
+            threads[thread].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(values.size()).isEqualTo(20_000);
+    }
+
+    /**
+     * Test that invalid configurations are rejected.
+     */
+    @Test
+    @DisplayName("Test should reject invalid configuration")
+    public void testShouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new FastRandomIdGenerator(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FastRandomIdGenerator(10, "abca")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FastRandomIdGenerator().setSymbols("a".toCharArray()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,233 @@
+package jack.idgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for {@link IdCodec}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class IdCodecTest {
+
+    /**
+     * Test that {@code long} values are encoded without leading zeros and decoded back, including values that are
+     * negative when signed.
+     */
+    @Test
+    @DisplayName("Test should encode and decode long values")
+    public void testShouldEncodeAndDecodeLongs() {
+        assertThat(IdCodec.BASE62.encode(0)).isEqualTo("0");
+        assertThat(IdCodec.BASE62.encode(61)).isEqualTo("z");
+        assertThat(IdCodec.BASE62.encode(62)).isEqualTo("10");
+        assertThat(IdCodec.CROCKFORD_BASE32.encode(32 * 31 + 22)).isEqualTo("ZP");
+        assertThat(IdCodec.BASE64_URL.encode(63)).isEqualTo("_");
+        assertThat(IdCodec.BASE62.encode(-1L)).isEqualTo("LygHa16AHYF");
+        assertThat(IdCodec.CROCKFORD_BASE32.encode(-1L)).isEqualTo("FZZZZZZZZZZZZ");
+
+        Random random = new Random(1);
+        for (IdCodec codec : new IdCodec[]{IdCodec.BASE62, IdCodec.CROCKFORD_BASE32, IdCodec.BASE64_URL}) {
+            for (int index = 0; index < 1000; index++) {
+                long value = random.nextLong() >>> random.nextInt(64);
+                String text = codec.encode(value);
+                assertThat(text.length()).isEqualTo(codec.length(value));
+                assertThat(text.length() <= codec.maxLength()).isTrue();
+                assertThat(codec.decodeLong(text)).isEqualTo(value);
+            }
+        }
+    }
+
+    /**
+     * Test that base62 encoding of {@code long} matches the arbitrary-precision conversion it replaces.
+     */
+    @Test
+    @DisplayName("Test should match BigInteger conversion")
+    public void testShouldMatchBigIntegerConversion() {
+        Random random = new Random(2);
+        for (int index = 0; index < 1000; index++) {
+            long value = random.nextLong();
+            BigInteger remaining = new BigInteger(Long.toUnsignedString(value));
+            StringBuilder expected = new StringBuilder();
+            do {
+                BigInteger[] split = remaining.divideAndRemainder(BigInteger.valueOf(62));
+                expected.insert(0, SecureRandomIdGenerator.DEFAULT_SYMBOL_SET.charAt(split[1].intValue()));
+                remaining = split[0];
+            } while (remaining.signum() > 0);
+
+            assertThat(IdCodec.BASE62.encode(value)).isEqualTo(expected.toString());
+        }
+    }
+
+    /**
+     * Test that {@code long} values are written into arrays and buffers, and read back from arrays.
+     */
+    @Test
+    @DisplayName("Test should encode long into arrays and buffers")
+    public void testShouldEncodeIntoArraysAndBuffers() {
+        long value = 1234567890123L;
+        String expected = IdCodec.BASE62.encode(value);
+
+        char[] chars = new char[20];
+        int length = IdCodec.BASE62.encode(value, chars, 3);
+        assertThat(new String(chars, 3, length)).isEqualTo(expected);
+        assertThat(IdCodec.BASE62.decodeLong(chars, 3, length)).isEqualTo(value);
+
+        byte[] bytes = new byte[20];
+        length = IdCodec.BASE62.encode(value, bytes, 5);
+        assertThat(new String(bytes, 5, length, StandardCharsets.US_ASCII)).isEqualTo(expected);
+        assertThat(IdCodec.BASE62.decodeLong(bytes, 5, length)).isEqualTo(value);
+
+        ByteBuffer buffer = ByteBuffer.allocate(20);
+        buffer.put((byte) '/');
+        IdCodec.BASE62.encode(value, buffer);
+        assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII))
+                .isEqualTo("/" + expected);
+
+        assertThatThrownBy(() -> IdCodec.BASE62.encode(value, new char[3], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Test that byte arrays are encoded as unpadded standard encodings (where applicable) and decoded back, keeping
+     * leading zeros.
+     */
+    @Test
+    @DisplayName("Test should encode and decode byte arrays")
+    public void testShouldEncodeAndDecodeBytes() {
+        Random random = new Random(3);
+        for (int length = 0; length <= 40; length++) {
+            byte[] value = new byte[length];
+            random.nextBytes(value);
+            if (length > 2) {
+                value[0] = 0;
+            }
+
+            assertThat(IdCodec.BASE64_URL.encode(value))
+                    .isEqualTo(Base64.getUrlEncoder().withoutPadding().encodeToString(value));
+            for (IdCodec codec : new IdCodec[]{IdCodec.BASE62, IdCodec.CROCKFORD_BASE32, IdCodec.BASE64_URL}) {
+                String text = codec.encode(value);
+                assertThat(text.length()).isEqualTo(codec.encodedLength(length));
+                assertThat(codec.decodedLength(text.length())).isEqualTo(length);
+                assertThat(Arrays.equals(codec.decodeBytes(text), value)).as("%s", text).isTrue();
+            }
+        }
+    }
+
+    /**
+     * Test that base62 of a byte array is the big-endian number it holds, left-padded with zeros.
+     */
+    @Test
+    @DisplayName("Test should encode bytes as base62 number")
+    public void testShouldEncodeBytesAsBase62Number() {
+        Random random = new Random(4);
+        for (int length = 1; length <= 64; length++) {
+            byte[] value = new byte[length];
+            random.nextBytes(value);
+
+            StringBuilder expected = new StringBuilder();
+            BigInteger remaining = new BigInteger(1, value);
+            while (remaining.signum() > 0) {
+                BigInteger[] split = remaining.divideAndRemainder(BigInteger.valueOf(62));
+                expected.insert(0, SecureRandomIdGenerator.DEFAULT_SYMBOL_SET.charAt(split[1].intValue()));
+                remaining = split[0];
+            }
+            while (expected.length() < IdCodec.BASE62.encodedLength(length)) {
+                expected.insert(0, '0');
+            }
+
+            assertThat(IdCodec.BASE62.encode(value)).isEqualTo(expected.toString());
+        }
+    }
+
+    /**
+     * Test that byte arrays are written into arrays and buffers, and read back from buffers.
+     */
+    @Test
+    @DisplayName("Test should encode bytes into arrays and buffers")
+    public void testShouldEncodeBytesIntoArraysAndBuffers() {
+        byte[] value = new byte[20];
+        new Random(5).nextBytes(value);
+        for (IdCodec codec : new IdCodec[]{IdCodec.BASE62, IdCodec.CROCKFORD_BASE32, IdCodec.BASE64_URL}) {
+            String expected = codec.encode(value);
+
+            char[] chars = new char[40];
+            int length = codec.encode(value, chars, 3);
+            assertThat(new String(chars, 3, length)).isEqualTo(expected);
+
+            byte[] bytes = new byte[40];
+            length = codec.encode(value, bytes, 5);
+            assertThat(new String(bytes, 5, length, StandardCharsets.US_ASCII)).isEqualTo(expected);
+
+            ByteBuffer buffer = ByteBuffer.allocate(40);
+            buffer.put((byte) '/');
+            assertThat(codec.encode(value, buffer)).isEqualTo(expected.length());
+            assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII))
+                    .isEqualTo("/" + expected);
+
+            buffer.flip().get();
+            byte[] decoded = new byte[22];
+            assertThat(codec.decodeBytes(buffer, expected.length(), decoded, 2)).isEqualTo(value.length);
+            assertThat(buffer.remaining()).isEqualTo(0);
+            assertThat(Arrays.equals(Arrays.copyOfRange(decoded, 2, 22), value)).isTrue();
+
+            assertThatThrownBy(() -> codec.encode(value, ByteBuffer.allocate(expected.length() - 1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    /**
+     * Test that Crockford's base32 of the bytes of a ULID is the ULID's string form, in both directions.
+     */
+    @Test
+    @DisplayName("Test should round-trip ULID")
+    public void testShouldRoundTripUlid() {
+        for (long seed = 0; seed < 20; seed++) {
+            long timestamp = 1_700_000_000_000L + seed * 7919;
+            String ulid = new UlidIdGenerator(() -> timestamp, new Random(seed)).generate();
+            byte[] bytes = new UlidIdGenerator(() -> timestamp, new Random(seed)).generateBytes();
+
+            assertThat(IdCodec.CROCKFORD_BASE32.encode(bytes)).isEqualTo(ulid);
+            assertThat(Arrays.equals(IdCodec.CROCKFORD_BASE32.decodeBytes(ulid), bytes)).isTrue();
+            assertThat(Arrays.equals(IdCodec.CROCKFORD_BASE32.decodeBytes(ulid.toLowerCase()), bytes)).isTrue();
+        }
+
+        assertThat(IdCodec.CROCKFORD_BASE32.encode(new byte[16])).isEqualTo("00000000000000000000000000");
+        byte[] max = new byte[16];
+        Arrays.fill(max, (byte) 0xFF);
+        assertThat(IdCodec.CROCKFORD_BASE32.encode(max)).isEqualTo("7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+        assertThatThrownBy(() -> IdCodec.CROCKFORD_BASE32.decodeBytes("80000000000000000000000000"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Test that invalid symbols, overflowing values and invalid lengths are rejected, and that Crockford's base32
+     * accepts lower case and aliases.
+     */
+    @Test
+    @DisplayName("Test should validate encoded values")
+    public void testShouldValidateEncodedValues() {
+        assertThat(IdCodec.CROCKFORD_BASE32.decodeLong("zp")).isEqualTo(32L * 31 + 22);
+        assertThat(IdCodec.CROCKFORD_BASE32.decodeLong("1O")).isEqualTo(IdCodec.CROCKFORD_BASE32.decodeLong("l0"));
+
+        assertThatThrownBy(() -> IdCodec.BASE62.decodeLong("ab-c")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdCodec.CROCKFORD_BASE32.decodeLong("U")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdCodec.BASE62.decodeLong("LygHa16AHYG")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdCodec.BASE64_URL.decodeLong("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdCodec.BASE62.decodeBytes("zz")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IdCodec.BASE64_URL.decodeBytes("A")).isInstanceOf(IllegalArgumentException.class);
+        // "AB" holds 12 bits, of which the last 4 are padding.
+        assertThat(Arrays.equals(IdCodec.BASE64_URL.decodeBytes("AA"), new byte[1])).isTrue();
+        assertThatThrownBy(() -> IdCodec.BASE64_URL.decodeBytes("AB")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -5,7 +5,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -55,4 +57,77 @@ public class SecureRandomIdGeneratorTest {
         generator.setLength(2);
         assertThat(generator.generate()).hasSize(2);
     }
+
+    /**
+     * Ensures that generated values consist of configured symbols only, for alphabets whose size is a power of 2
+     * (sliced from random bits) and for other sizes (rejection-sampled).
+     */
+    @Test
+    @DisplayName("Test should generate configured symbols only")
+    public void testShouldGenerateConfiguredSymbolsOnly() {
+        for (String symbols : new String[]{"01", "abc", "0123456789abcdef", SecureRandomIdGenerator.DEFAULT_SYMBOL_SET}) {
+            SecureRandomIdGenerator generator = new SecureRandomIdGenerator(200, symbols);
+            Set<Character> seen = new HashSet<>();
+            for (int i = 0; i < 10; i++) {
+                for (char c : generator.generate().toCharArray()) {
+                    assertThat(symbols.indexOf(c) >= 0).as("Unexpected symbol: %s", c).isTrue();
+                    seen.add(c);
+                }
+            }
+
+            assertThat(seen.size()).isEqualTo(symbols.length());
+        }
+    }
+
+    /**
+     * Ensures that symbols replaced after construction are used for subsequent values.
+     */
+    @Test
+    @DisplayName("Test should use replaced symbols")
+    public void testShouldUseReplacedSymbols() {
+        generator.setSymbols("xy".toCharArray());
+
+        assertThat(generator.generate().replace("x", "").replace("y", "")).isEqualTo("");
+    }
+
+    /**
+     * Ensures that bulk generation yields unique values of expected length, across multiple random blocks.
+     */
+    @Test
+    @DisplayName("Test should generate unique values in bulk")
+    public void testShouldGenerateInBulk() {
+        List<String> values = generator.generate(5000);
+
+        assertThat(values.size()).isEqualTo(5000);
+        assertThat(new HashSet<>(values).size()).isEqualTo(5000);
+        for (String value : values) {
+            assertThat(value).hasSize(SecureRandomIdGenerator.DEFAULT_IDENTIFIER_LENGTH);
+        }
+    }
+
+    /**
+     * Ensures that a striped generator yields unique values when called by many threads.
+     */
+    @Test
+    @DisplayName("Test should generate unique values with per-thread random sources")
+    public void testShouldGenerateUniqueValuesStriped() throws InterruptedException {
+        SecureRandomIdGenerator striped = new StripedSecureRandomIdGenerator(16);
+        Set<String> values = ConcurrentHashMap.newKeySet();
+
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                values.addAll(striped.generate(500));
+                for (int j = 0; j < 500; j++) {
+                    values.add(striped.generate());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(values.size()).isEqualTo(4000);
+    }
 }
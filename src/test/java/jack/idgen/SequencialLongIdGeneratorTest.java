@@ -0,0 +1,93 @@
+package jack.idgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for {@link SequencialLongIdGenerator}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class SequencialLongIdGeneratorTest {
+
+    /**
+     * Test that bulk methods reserve consecutive ranges that continue the single-value sequence.
+     */
+    @Test
+    @DisplayName("Test should generate consecutive identifiers in bulk")
+    public void testShouldGenerateInBulk() {
+        SequencialLongIdGenerator generator = new SequencialLongIdGenerator(10);
+
+        assertThat(generator.generate()).isEqualTo(10L);
+        assertThat(generator.generate(3)).containsExactly(11L, 12L, 13L);
+        assertThat(generator.generateLongs(2)[1]).isEqualTo(15L);
+
+        Long[] boxed = new Long[2];
+        generator.fill(boxed);
+        assertThat(boxed[0]).isEqualTo(16L);
+        assertThat(boxed[1]).isEqualTo(17L);
+
+        assertThat(generator.generate(0)).isEmpty();
+        assertThat(generator.generate()).isEqualTo(18L);
+    }
+
+    /**
+     * Test that concurrent bulk reservations never overlap.
+     */
+    @Test
+    @DisplayName("Test should reserve disjoint ranges concurrently")
+    public void testShouldReserveDisjointRanges() throws InterruptedException {
+        SequencialLongIdGenerator generator = new SequencialLongIdGenerator();
+        boolean[] seen = new boolean[8 * 1000 * 100];
+        boolean[] duplicate = new boolean[1];
+
+        Thread[] threads = new Thread[8];
+        for (int thread = 0; thread < threads.length; thread++) {
+            threads[thread] = new Thread(() -> {
+                for (int batch = 0; batch < 1000; batch++) {
+                    List<Long> identifiers = generator.generate(100);
+                    synchronized (seen) {
+                        for (long identifier : identifiers) {
+                            duplicate[0] |= seen[(int) identifier];
+                            seen[(int) identifier] = true;
+                        }
+                    }
+                }
+            });
+            threads[thread].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(duplicate[0]).isFalse();
+        assertThat(generator.generate()).isEqualTo((long) seen.length);
+    }
+
+    /**
+     * Test that primitive and boxed identifiers share the same sequence, and that default bulk methods of
+     * {@link LongIdGenerator} use {@link LongIdGenerator#nextLong()}.
+     */
+    @Test
+    @DisplayName("Test should generate primitive identifiers")
+    public void testShouldGeneratePrimitiveIdentifiers() {
+        LongIdGenerator generator = new SequencialLongIdGenerator(5);
+        assertThat(generator.nextLong()).isEqualTo(5L);
+        assertThat(generator.generate()).isEqualTo(6L);
+        assertThat(generator.nextLong()).isEqualTo(7L);
+
+        long[] next = {100};
+        LongIdGenerator custom = () -> next[0]++;
+        assertThat(custom.generate(3)).containsExactly(100L, 101L, 102L);
+        assertThat(custom.generateLongs(2)[1]).isEqualTo(104L);
+
+        IntIdGenerator integers = new SequencialIntegerIdGenerator();
+        assertThat(integers.nextInt()).isEqualTo(0);
+        assertThat(integers.generateInts(2)[1]).isEqualTo(2);
+    }
+}
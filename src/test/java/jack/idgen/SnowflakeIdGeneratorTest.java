@@ -0,0 +1,124 @@
+package jack.idgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for {@link SnowflakeIdGenerator}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class SnowflakeIdGeneratorTest {
+
+    /**
+     * Test that an identifier is composed of timestamp, node and sequence.
+     */
+    @Test
+    @DisplayName("Test should compose identifier")
+    public void testShouldComposeIdentifier() {
+        long[] now = {SnowflakeIdGenerator.DEFAULT_EPOCH + 1000};
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, SnowflakeIdGenerator.DEFAULT_EPOCH, 41, 10, 12,
+                () -> now[0]);
+
+        long first = generator.nextLong();
+        long second = generator.nextLong();
+
+        assertThat(first).isEqualTo((1000L << 22) | (5L << 12));
+        assertThat(generator.timestampOf(second)).isEqualTo(now[0]);
+        assertThat(generator.nodeOf(second)).isEqualTo(5L);
+        assertThat(generator.sequenceOf(second)).isEqualTo(1L);
+
+        now[0]++;
+        assertThat(generator.sequenceOf(generator.nextLong())).isEqualTo(0L);
+    }
+
+    /**
+     * Test that identifiers keep increasing, without running ahead of the clock, when the clock moves backwards or the
+     * sequence overflows.
+     */
+    @Test
+    @DisplayName("Test should keep increasing on clock regression and sequence overflow")
+    public void testShouldKeepIncreasing() {
+        // Clock advances by a millisecond every 10 readings.
+        long[] ticks = {50_000};
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 0, 41, 10, 2, () -> ticks[0]++ / 10);
+
+        long previous = generator.nextLong();
+        for (int index = 0; index < 40; index++) {
+            if (index == 20) {
+                ticks[0] -= 300;
+            }
+            long next = generator.nextLong();
+            assertThat(next > previous).as("Identifier %d follows %d", next, previous).isTrue();
+            assertThat(generator.timestampOf(next) <= ticks[0] / 10 + SnowflakeIdGenerator.MAX_DRIFT_MILLIS)
+                    .as("Timestamp of %d is ahead of clock", next).isTrue();
+            previous = next;
+        }
+    }
+
+    /**
+     * Test that when the sequence is exhausted and the clock stands still, generation waits for the clock rather than
+     * running ahead of it.
+     */
+    @Test
+    @DisplayName("Test should wait for clock when sequence is exhausted")
+    public void testShouldWaitForClock() throws InterruptedException {
+        AtomicLong now = new AtomicLong(1000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(2, 0, 41, 10, 12, now::get);
+        long[] identifiers = new long[3 * 4096];
+
+        Thread thread = new Thread(() -> generator.fill(identifiers));
+        thread.start();
+        thread.join(200);
+        // Two milliseconds of sequence (the clock's and the allowed drift) are used up; the third run waits.
+        assertThat(thread.isAlive()).isTrue();
+
+        now.set(1001);
+        thread.join(10_000);
+        assertThat(thread.isAlive()).isFalse();
+        assertThat(generator.timestampOf(identifiers[2 * 4096 - 1])).isEqualTo(1001L);
+        assertThat(generator.timestampOf(identifiers[identifiers.length - 1])).isEqualTo(1002L);
+        for (int index = 1; index < identifiers.length; index++) {
+            assertThat(identifiers[index] > identifiers[index - 1]).isTrue();
+        }
+    }
+
+    /**
+     * Test that a bulk request reserves a continuous run of identifiers.
+     */
+    @Test
+    @DisplayName("Test should generate identifiers in bulk")
+    public void testShouldGenerateInBulk() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, 0, 41, 10, 12, () -> 7);
+
+        long[] identifiers = generator.generateLongs(5000);
+
+        for (int index = 1; index < identifiers.length; index++) {
+            assertThat(identifiers[index] > identifiers[index - 1]).isTrue();
+        }
+        assertThat(generator.timestampOf(identifiers[4096])).isEqualTo(8L);
+        assertThat(generator.nodeOf(identifiers[4999])).isEqualTo(3L);
+        assertThat(generator.generate()).isEqualTo(identifiers[4999] + 1);
+    }
+
+    /**
+     * Test that invalid configurations are rejected, and exhausted timestamps are reported.
+     */
+    @Test
+    @DisplayName("Test should reject invalid configuration")
+    public void testShouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1, 0, 42, 10, 12))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, 0, 4, 0, 0, () -> 15);
+        assertThat(generator.nextLong()).isEqualTo(15L);
+        assertThatThrownBy(generator::nextLong).isInstanceOf(IllegalStateException.class);
+    }
+}
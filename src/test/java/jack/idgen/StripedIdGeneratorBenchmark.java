@@ -0,0 +1,102 @@
+package jack.idgen;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * <p>A standalone benchmark measuring how identifier generators scale with the number of threads (1 to 64): shared
+ * generators ({@link SequencialLongIdGenerator}, {@link SecureRandomIdGenerator}) versus their striped counterparts
+ * ({@link StripedSequencialLongIdGenerator}, {@link StripedSecureRandomIdGenerator}). Reports total throughput, in
+ * millions of identifiers per second.
+ * </p>
+ * This is not a unit test. Run it manually (after compiling test sources), preferably on a machine with many cores,
+ * e.g.:
+ * <pre>
+ *     java -cp build/classes/java/main:build/classes/java/test jack.idgen.StripedIdGeneratorBenchmark
+ * </pre>
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class StripedIdGeneratorBenchmark {
+
+    /**
+     * Thread counts to measure.
+     */
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    /**
+     * Number of sequential identifiers generated in each measurement (split among threads).
+     */
+    private static final int SEQUENTIAL_COUNT = 64_000_000;
+
+    /**
+     * Number of random identifiers generated in each measurement (split among threads).
+     */
+    private static final int RANDOM_COUNT = 1_280_000;
+
+    /**
+     * Number of warm-up and measured rounds.
+     */
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int round = 0; round < ROUNDS; round++) {
+            System.out.printf("Round %d (%d processors)%n", round + 1, Runtime.getRuntime().availableProcessors());
+            for (int threads : THREAD_COUNTS) {
+                measure("SequencialLong", threads, SEQUENTIAL_COUNT, SequencialLongIdGenerator::new);
+                measure("StripedSequencialLong", threads, SEQUENTIAL_COUNT, StripedSequencialLongIdGenerator::new);
+                measure("SecureRandom", threads, RANDOM_COUNT, SecureRandomIdGenerator::new);
+                measure("StripedSecureRandom", threads, RANDOM_COUNT, StripedSecureRandomIdGenerator::new);
+            }
+        }
+    }
+
+    /**
+     * Generate identifiers concurrently using a new generator and report throughput.
+     *
+     * @param name      Name of generator, for reporting.
+     * @param threads   Number of threads.
+     * @param count     Total number of identifiers to generate.
+     * @param generator Generator factory.
+     */
+    private static void measure(String name, int threads, int count, Supplier<IdGenerator<?>> generator)
+            throws InterruptedException {
+        IdGenerator<?> instance = generator.get();
+        int perThread = count / threads;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        int[] checksums = new int[threads];
+        for (int thread = 0; thread < threads; thread++) {
+            int worker = thread;
+            workers[thread] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int checksum = 0;
+                for (int index = 0; index < perThread; index++) {
+                    checksum += instance.generate().hashCode();
+                }
+                checksums[worker] = checksum;
+            });
+            workers[thread].start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        int checksum = 0;
+        for (int value : checksums) {
+            checksum += value;
+        }
+        System.out.printf("%-22s threads: %2d, throughput: %8.2f M ids/s (checksum %d)%n",
+                name, threads, (double) perThread * threads * 1_000 / elapsed, checksum);
+    }
+}
@@ -0,0 +1,94 @@
+package jack.idgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for {@link StripedSequencialLongIdGenerator}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class StripedSequencialLongIdGeneratorTest {
+
+    /**
+     * Test that a single thread receives consecutive identifiers, across block boundaries and bulk requests.
+     */
+    @Test
+    @DisplayName("Test should generate consecutive identifiers within a thread")
+    public void testShouldGenerateConsecutiveIdentifiers() {
+        StripedSequencialLongIdGenerator generator = new StripedSequencialLongIdGenerator(100, 4);
+
+        for (long expected = 100; expected < 110; expected++) {
+            assertThat(generator.generate()).isEqualTo(expected);
+        }
+
+        long[] identifiers = generator.generateLongs(7);
+        assertThat(identifiers[0]).isEqualTo(110L);
+        assertThat(identifiers[1]).isEqualTo(111L);
+        assertThat(identifiers[2]).isEqualTo(112L);
+        assertThat(identifiers[6]).isEqualTo(116L);
+        assertThat(generator.generate()).isEqualTo(117L);
+    }
+
+    /**
+     * Test that identifiers generated by many threads are unique, and increase within each thread.
+     */
+    @Test
+    @DisplayName("Test should generate unique identifiers across threads")
+    public void testShouldGenerateUniqueIdentifiersAcrossThreads() throws InterruptedException {
+        StripedSequencialLongIdGenerator generator = new StripedSequencialLongIdGenerator(0, 16);
+        Set<Long> identifiers = new HashSet<>();
+        boolean[] failed = new boolean[1];
+
+        Thread[] threads = new Thread[8];
+        for (int thread = 0; thread < threads.length; thread++) {
+            threads[thread] = new Thread(() -> {
+                long[] local = new long[10_000];
+                for (int index = 0; index < local.length; index++) {
+                    local[index] = generator.generate();
+                    if (index > 0 && local[index] <= local[index - 1]) {
+                        failed[0] = true;
+                    }
+                }
+                synchronized (identifiers) {
+                    for (long identifier : local) {
+                        failed[0] |= !identifiers.add(identifier);
+                    }
+                }
+            });
+            threads[thread].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(failed[0]).isFalse();
+        assertThat(identifiers.size()).isEqualTo(80_000);
+    }
+
+    /**
+     * Test that a generator used by a (still running) thread can be garbage collected once discarded.
+     */
+    @Test
+    @DisplayName("Test should not retain discarded generator")
+    public void testShouldNotRetainDiscardedGenerator() throws InterruptedException {
+        StripedSequencialLongIdGenerator generator = new StripedSequencialLongIdGenerator();
+        generator.nextLong();
+        WeakReference<StripedSequencialLongIdGenerator> reference = new WeakReference<>(generator);
+        generator = null;
+
+        for (int attempt = 0; attempt < 50 && reference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(reference.get()).isNull();
+    }
+}
@@ -0,0 +1,107 @@
+package jack.idgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for {@link UlidIdGenerator} and {@link UuidV7IdGenerator}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class TimeOrderedIdGeneratorTest {
+
+    /**
+     * Test that a ULID encodes its binary form in Crockford's base32.
+     */
+    @Test
+    @DisplayName("Test should encode ULID in Crockford base32")
+    public void testShouldEncodeUlid() {
+        for (long seed = 0; seed < 20; seed++) {
+            String ulid = new UlidIdGenerator(() -> 1_700_000_000_000L, new Random(seed)).generate();
+            byte[] bytes = new UlidIdGenerator(() -> 1_700_000_000_000L, new Random(seed)).generateBytes();
+
+            StringBuilder expected = new StringBuilder(new BigInteger(1, bytes).toString(32));
+            while (expected.length() < UlidIdGenerator.LENGTH) {
+                expected.insert(0, '0');
+            }
+            String crockford = expected.toString().toUpperCase()
+                    .replace('V', 'Z').replace('U', 'Y').replace('T', 'X').replace('S', 'W')
+                    .replace('R', 'V').replace('Q', 'T').replace('P', 'S').replace('O', 'R')
+                    .replace('N', 'Q').replace('M', 'P').replace('L', 'N').replace('K', 'M')
+                    .replace('J', 'K').replace('I', 'J');
+
+            assertThat(ulid).isEqualTo(crockford);
+            assertThat(ulid.substring(0, 10)).isEqualTo("01HF7YAT00");
+        }
+    }
+
+    /**
+     * Test that a UUIDv7 carries its timestamp, version and variant, and its string form matches its binary form.
+     */
+    @Test
+    @DisplayName("Test should generate UUIDv7")
+    public void testShouldGenerateUuidV7() {
+        String text = new UuidV7IdGenerator(() -> 0x0123_4567_89ABL, new Random(7)).generate();
+        UUID uuid = new UuidV7IdGenerator(() -> 0x0123_4567_89ABL, new Random(7)).generateUuid();
+
+        assertThat(text).isEqualTo(uuid.toString());
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(0x0123_4567_89ABL);
+    }
+
+    /**
+     * Test that identifiers increase within a millisecond, after random bits overflow and when the clock moves
+     * backwards.
+     */
+    @Test
+    @DisplayName("Test should generate increasing identifiers")
+    public void testShouldGenerateIncreasingIdentifiers() {
+        long[] now = {1000};
+        Random allOnes = new Random() {
+            @Override
+            public long nextLong() {
+                return -1L;
+            }
+        };
+
+        for (TimeOrderedIdGenerator generator : new TimeOrderedIdGenerator[]{
+                new UlidIdGenerator(() -> now[0], allOnes), new UuidV7IdGenerator(() -> now[0], allOnes)}) {
+            now[0] = 1000;
+            String previous = generator.generate();
+            for (int index = 0; index < 10; index++) {
+                if (index == 5) {
+                    now[0] = 10;
+                }
+                String next = generator.generate();
+                assertThat(next.compareTo(previous) > 0).as("%s follows %s", next, previous).isTrue();
+                previous = next;
+            }
+        }
+    }
+
+    /**
+     * Test that identifiers are written into a reusable array, at a given offset.
+     */
+    @Test
+    @DisplayName("Test should write identifier into array")
+    public void testShouldWriteIntoArray() {
+        UlidIdGenerator generator = new UlidIdGenerator();
+        char[] chars = new char[UlidIdGenerator.LENGTH + 2];
+        chars[0] = '[';
+        chars[chars.length - 1] = ']';
+
+        generator.generate(chars, 1);
+
+        assertThat(chars[0]).isEqualTo('[');
+        assertThat(chars[chars.length - 1]).isEqualTo(']');
+        assertThat(new String(chars, 1, UlidIdGenerator.LENGTH).compareTo(generator.generate()) < 0).isTrue();
+    }
+}
@@ -0,0 +1,49 @@
+package jack.strings;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for {@link FragmentsBuilder}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class FragmentsBuilderTest {
+
+    /**
+     * Test that a built instance holds the full text and all fragments added, in order.
+     */
+    @Test
+    @DisplayName("Test should build fragments")
+    public void testShouldBuildFragments() {
+        Fragments fragments = FragmentsBuilder.newBuilder(2)
+                .addText("Hello ")
+                .addToken("${name}")
+                .addText(" !")
+                .build();
+
+        assertThat(fragments.text()).isEqualTo("Hello ${name} !");
+        assertThat(fragments.fragments()).hasSize(3);
+        assertThat(fragments.fragments().get(1)).isEqualTo(new TokenFragment("name", 6, 12));
+    }
+
+    /**
+     * Test that reusing a builder after {@link FragmentsBuilder#build()} does not affect previously built instances.
+     */
+    @Test
+    @DisplayName("Test should reuse builder without affecting built instances")
+    public void testShouldReuseBuilder() {
+        FragmentsBuilder builder = FragmentsBuilder.newBuilder();
+        Fragments first = builder.addText("first").build();
+
+        builder.addText(" and more");
+        Fragments second = builder.reset().addToken("${second}").build();
+
+        assertThat(first.fragments()).containsExactly(new TextFragment("first", 0, 4));
+        assertThat(second.text()).isEqualTo("${second}");
+        assertThat(second.fragments()).containsExactly(new TokenFragment("second", 0, 8));
+    }
+}
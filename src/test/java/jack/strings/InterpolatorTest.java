@@ -0,0 +1,68 @@
+package jack.strings;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for {@link Interpolator} and {@link Fragments#interpolate(java.util.function.Function, Appendable)}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class InterpolatorTest {
+
+    /**
+     * Test that all tokens are substituted while text blocks are kept intact.
+     */
+    @Test
+    @DisplayName("Test should substitute tokens")
+    public void testShouldSubstituteTokens() {
+        Interpolator interpolator = Interpolator.compile("Hello ${name}, you have ${count} new messages.");
+        String text = interpolator.interpolate(Map.of("name", "John", "count", "3")::get);
+
+        assertThat(text).isEqualTo("Hello John, you have 3 new messages.");
+        assertThat(interpolator.getTokenCount()).isEqualTo(2);
+    }
+
+    /**
+     * Test that templates starting or ending with tokens, as well as adjacent tokens, are rendered correctly.
+     */
+    @Test
+    @DisplayName("Test should render adjacent tokens")
+    public void testShouldRenderAdjacentTokens() {
+        Interpolator interpolator = Interpolator.compile("${a}${b} and ${c}");
+        String text = interpolator.interpolate(Map.of("a", "1", "b", "2", "c", "3")::get);
+
+        assertThat(text).isEqualTo("12 and 3");
+    }
+
+    /**
+     * Test that an unresolved token is reported along with its offset.
+     */
+    @Test
+    @DisplayName("Test should fail on unresolved token")
+    public void testShouldFailOnUnresolvedToken() {
+        Interpolator interpolator = Interpolator.compile("Hello ${name} !");
+
+        assertThatThrownBy(() -> interpolator.interpolate(key -> null))
+                .isInstanceOf(StringFragmentsException.class)
+                .hasMessageContaining("name");
+    }
+
+    /**
+     * Test that fragments can be rendered directly to a sink, without precompiling an interpolator.
+     */
+    @Test
+    @DisplayName("Test should interpolate fragments into a sink")
+    public void testShouldInterpolateFragments() throws Exception {
+        StringBuilder sink = new StringBuilder();
+        StringFragmentator.parse("Today is ${day}.").interpolate(key -> "Monday", sink);
+
+        assertThat(sink.toString()).isEqualTo("Today is Monday.");
+    }
+}
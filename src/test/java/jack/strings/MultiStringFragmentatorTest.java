@@ -0,0 +1,73 @@
+package jack.strings;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for {@link MultiStringFragmentator}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class MultiStringFragmentatorTest {
+
+    /**
+     * Fragmentator recognizing variables, expressions and links.
+     */
+    private final MultiStringFragmentator fragmentator = new MultiStringFragmentator(
+            new TokenDelimiter("${", "}", "var"),
+            new TokenDelimiter("#{", "}", "expr"),
+            new TokenDelimiter("@{", "}", "link"));
+
+    /**
+     * Test that tokens of all kinds are parsed in a single pass, each with its own kind.
+     */
+    @Test
+    @DisplayName("Test should parse tokens of several kinds")
+    public void testShouldParseTokensOfSeveralKinds() {
+        final String TEXT = "Hi ${name}, pay #{price} at @{shop}.";
+        Fragments fragments = fragmentator.parsePattern(TEXT);
+
+        assertThat(fragments.fragments()).isEqualTo(List.of(
+                new TextFragment("Hi ", 0, 3),
+                new TokenFragment("name", 3, 9, "var"),
+                new TextFragment(", pay ", 10, 16),
+                new TokenFragment("price", 16, 23, "expr"),
+                new TextFragment(" at ", 24, 28),
+                new TokenFragment("shop", 28, 34, "link"),
+                new TextFragment(".", 35, 36)));
+    }
+
+    /**
+     * Test that an escaped prefix is kept as text, and that the longest of overlapping prefixes wins.
+     */
+    @Test
+    @DisplayName("Test should skip escaped prefix and prefer longest prefix")
+    public void testShouldSkipEscapedAndPreferLongestPrefix() {
+        MultiStringFragmentator fragmentator = new MultiStringFragmentator(
+                new TokenDelimiter("{", "}", "short"),
+                new TokenDelimiter("{{", "}}", "long"));
+
+        Fragments fragments = fragmentator.parsePattern("\\{a} {{b}}");
+
+        assertThat(fragments.fragments()).isEqualTo(List.of(
+                new TextFragment("\\{a} ", 0, 5),
+                new TokenFragment("b", 5, 8, "long")));
+    }
+
+    /**
+     * Test that an unclosed token is reported at the offset of its prefix.
+     */
+    @Test
+    @DisplayName("Test should fail on unclosed token")
+    public void testShouldFailOnUnclosedToken() {
+        assertThatThrownBy(() -> fragmentator.parsePattern("Hello #{name"))
+                .isInstanceOfSatisfying(StringFragmentsException.class,
+                        ex -> assertThat(((StringFragmentsException) ex).getOffset()).isEqualTo(6));
+    }
+}
@@ -0,0 +1,106 @@
+package jack.strings;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * <p>A standalone benchmark comparing delimiter search via {@link String#indexOf(String, int)} with
+ * Boyer-Moore-Horspool ({@link SubstringMatcher#horspool(String)}), for several delimiter lengths, on typical and
+ * worst-case inputs. Both strategies are wrapped with the same escape handling.
+ * </p>
+ * This is not a unit test. Run it manually (after compiling test sources), e.g.:
+ * <pre>
+ *     java -cp build/classes/java/main:build/classes/java/test jack.strings.SubstringMatcherBenchmark
+ * </pre>
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class SubstringMatcherBenchmark {
+
+    /**
+     * Length of each generated text.
+     */
+    private static final int TEXT_LENGTH = 4 * 1024 * 1024;
+
+    /**
+     * Number of warm-up and measured rounds per case.
+     */
+    private static final int ROUNDS = 15;
+
+    public static void main(String[] args) {
+        for (int length : new int[]{4, 16, 33, 64}) {
+            String tail = "%".repeat(length - 2) + "}}";
+
+            // Typical: long prose with no delimiters.
+            run("Prose", tail, repeat("Lorem ipsum dolor sit amet, consectetur. "));
+
+            // Many partial matches of the delimiter, each followed by an escaped delimiter.
+            run("Partial matches and escapes", tail, repeat(tail.substring(1) + "x\\" + tail));
+
+            // Worst case for indexOf: every character starts a partial match.
+            run("indexOf worst case", "%".repeat(length - 1) + "x", repeat("%"));
+
+            // Mismatch at the first character only, which a naive Horspool detects last.
+            run("First character mismatch", "x" + "%".repeat(length - 1), repeat("%"));
+
+            // Worst case for Horspool: every alignment matches all but the second character, and shifts by one.
+            run("Horspool worst case", "%x" + "%".repeat(length - 2), repeat("%"));
+        }
+    }
+
+    /**
+     * Measure a single case with both search strategies.
+     *
+     * @param name    Case name.
+     * @param pattern Delimiter to search for.
+     * @param text    Text to search in.
+     */
+    private static void run(String name, String pattern, String text) {
+        SubstringMatcher matcher = SubstringMatcher.horspool(pattern);
+        char escape = StringScanner.DEFAULT_ESCAPE_CHARACTER;
+
+        double indexOf = measure(offset -> StringScanner.findSubstring(text, pattern, offset, escape), pattern.length());
+        double horspool = measure(offset -> StringScanner.findSubstring(text, matcher, offset, escape), pattern.length());
+
+        System.out.printf("%-28s length=%-3d indexOf: %8.2f ms   horspool: %8.2f ms%n",
+                name, pattern.length(), indexOf, horspool);
+    }
+
+    /**
+     * Find all occurrences using a search function, several times, and report the median time.
+     *
+     * @param search Search function, receiving an offset and returning location of next occurrence or -1.
+     * @param length Pattern length.
+     * @return Median time, in milliseconds.
+     */
+    private static double measure(IntUnaryOperator search, int length) {
+        long[] times = new long[ROUNDS];
+        int blackhole = 0;
+        for (int round = -ROUNDS; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            int offset = search.applyAsInt(0);
+            while (offset != -1) {
+                blackhole++;
+                offset = search.applyAsInt(offset + length);
+            }
+            if (round >= 0) {
+                times[round] = System.nanoTime() - start;
+            }
+        }
+
+        if (blackhole == 42) {
+            System.out.print("");
+        }
+        Arrays.sort(times);
+        return times[ROUNDS / 2] / 1e6;
+    }
+
+    /**
+     * @param unit Unit to repeat.
+     * @return Text of {@link #TEXT_LENGTH} characters made by repeating <i>unit</i>.
+     */
+    private static String repeat(String unit) {
+        return unit.repeat(TEXT_LENGTH / unit.length() + 1).substring(0, TEXT_LENGTH);
+    }
+}
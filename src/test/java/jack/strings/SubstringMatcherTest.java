@@ -0,0 +1,58 @@
+package jack.strings;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for {@link SubstringMatcher}.
+ *
+ * @author Guy Raz Nir
+ * @since 2026/10/19
+ */
+public class SubstringMatcherTest {
+
+    /**
+     * Test that a Horspool search locates the same occurrences as {@link String#indexOf(String, int)}, including
+     * overlapping and partial matches.
+     */
+    @Test
+    @DisplayName("Test should find same occurrences as indexOf")
+    public void testShouldFindSameOccurrencesAsIndexOf() {
+        Random random = new Random(17);
+        final String PATTERN = "{{%%";
+        SubstringMatcher matcher = SubstringMatcher.horspool(PATTERN);
+
+        for (int round = 0; round < 200; round++) {
+            // Build text from pattern characters only, to generate plenty of partial matches.
+            StringBuilder buf = new StringBuilder();
+            for (int index = 0; index < 200; index++) {
+                buf.append("{%x".charAt(random.nextInt(3)));
+            }
+            String text = buf.toString();
+
+            for (int offset = 0; offset <= text.length(); offset++) {
+                assertThat(matcher.indexOf(text, offset)).isEqualTo(text.indexOf(PATTERN, offset));
+            }
+        }
+    }
+
+    /**
+     * Test that an escaped delimiter is skipped when using a precompiled matcher.
+     */
+    @Test
+    @DisplayName("Test should skip escaped occurrence")
+    public void testShouldSkipEscapedOccurrence() {
+        final String TEXT = "Skip \\{{%% but not {{%% and not \\{{%%";
+        SubstringMatcher matcher = SubstringMatcher.horspool("{{%%");
+
+        int index = StringScanner.findSubstring(TEXT, matcher, 0, StringScanner.DEFAULT_ESCAPE_CHARACTER);
+        assertThat(index).isEqualTo(TEXT.indexOf("{{%% and"));
+
+        index = StringScanner.findSubstring(TEXT, matcher, index + 1, StringScanner.DEFAULT_ESCAPE_CHARACTER);
+        assertThat(index).isEqualTo(-1);
+    }
+}
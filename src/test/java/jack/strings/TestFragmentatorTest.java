@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -66,4 +67,42 @@ public class TestFragmentatorTest {
         assertThat(fragments.fragments()).isEqualTo(List.of(expectedToken));
     }
 
+    /**
+     * Test that a token with a multi-character suffix is not followed by a text fragment holding the suffix leftovers.
+     */
+    @Test
+    @DisplayName("Test should consume multi-character token suffix")
+    public void testShouldConsumeMultiCharacterSuffix() {
+        final String TEXT = "Hello {{%name%}} !";
+        Fragments fragments = new StringFragmentator("{{%", "%}}").parsePattern(TEXT);
+
+        assertThat(fragments.fragments()).isEqualTo(List.of(
+                new TextFragment("Hello ", 0, 6),
+                new TokenFragment("name", 6, 13),
+                new TextFragment(" !", 16, TEXT.length())));
+    }
+
+    /**
+     * Test that parallel parsing of a large text produces the exact same fragments as sequential parsing.
+     */
+    @Test
+    @DisplayName("Test should parse large text in parallel")
+    public void testShouldParseInParallel() {
+        StringBuilder buf = new StringBuilder();
+        for (int index = 0; buf.length() < 2 * 1024 * 1024; index++) {
+            buf.append("Hello ${name").append(index).append("}, braces } and \\${ are text. ");
+        }
+        final String TEXT = buf.toString();
+
+        StringFragmentator fragmentator = StringFragmentator.getDefault();
+        Fragments expected = fragmentator.parsePattern(TEXT);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Fragments actual = fragmentator.parseParallel(TEXT, pool);
+
+            assertThat(actual).isEqualTo(expected);
+        } finally {
+            pool.shutdown();
+        }
+    }
 }